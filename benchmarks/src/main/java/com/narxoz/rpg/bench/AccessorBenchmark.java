@@ -0,0 +1,92 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.loot.LootTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocation regression check for the per-tick read accessors.
+ *
+ * Every benchmark here must report gc.alloc.rate.norm of ~0 B/op; anything
+ * above that means an accessor started copying again. BenchmarkRunner
+ * enforces this and exits non-zero on a regression:
+ *   java -cp target/benchmarks.jar com.narxoz.rpg.bench.BenchmarkRunner 'AccessorBenchmark'
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AccessorBenchmark {
+
+    @Param({"goblin", "dragon"})
+    public String kind;
+
+    private Enemy enemy;
+    private LootTable loot;
+
+    @Setup
+    public void setUp() {
+        enemy = kind.equals("goblin") ? Fixtures.goblin("SHADOW", 3) : Fixtures.dragon("FIRE", 3);
+        loot = enemy.getLootTable();
+    }
+
+    @Benchmark
+    public int indexedAbilities() {
+        int total = 0;
+        for (int i = 0; i < enemy.abilityCount(); i++) {
+            total += enemy.abilityAt(i).getDamage();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public void forEachAbility(Blackhole bh) {
+        enemy.forEachAbility(bh::consume);
+    }
+
+    @Benchmark
+    public int abilitiesView() {
+        List<Ability> abilities = enemy.getAbilities();
+        int total = 0;
+        for (int i = 0; i < abilities.size(); i++) {
+            total += abilities.get(i).getDamage();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int indexedItems() {
+        int total = 0;
+        for (int i = 0; i < loot.itemCount(); i++) {
+            total += loot.itemAt(i).length();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public void forEachItem(Blackhole bh) {
+        loot.forEachItem(bh::consume);
+    }
+
+    @Benchmark
+    public int itemsView() {
+        return loot.getItems().size();
+    }
+}
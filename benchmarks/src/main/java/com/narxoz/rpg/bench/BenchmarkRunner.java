@@ -0,0 +1,97 @@
+package com.narxoz.rpg.bench;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Release-gate run: every matching benchmark at 1, 4 and N (= available
+ * processors) threads with the GC profiler, so each result carries both
+ * throughput and allocation rate (gc.alloc.rate.norm = bytes per operation).
+ *
+ * Usage:
+ *   java -cp target/benchmarks.jar com.narxoz.rpg.bench.BenchmarkRunner [include-regex]
+ *
+ * Results are written to jmh-result-t{threads}.json for comparison between
+ * releases. Benchmarks in ALLOCATION_FREE must stay at or below
+ * MAX_BYTES_PER_OP; if any of them does not, the run prints the offenders
+ * and exits with status 1. For ad-hoc runs use the JMH CLI directly:
+ *   java -jar target/benchmarks.jar CloneBenchmark -t 4 -prof gc
+ */
+public class BenchmarkRunner {
+
+    /** Benchmark classes whose every method must be allocation-free. */
+    private static final List<String> ALLOCATION_FREE = List.of(
+            AccessorBenchmark.class.getName()
+    );
+
+    /**
+     * gc.alloc.rate.norm is averaged over the whole iteration, so a truly
+     * allocation-free loop still reports a small fraction of a byte
+     * (profiler and TLAB noise). One byte per call already means a copy.
+     */
+    private static final double MAX_BYTES_PER_OP = 0.5;
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "com\\.narxoz\\.rpg\\.bench\\..*";
+        int cores = Runtime.getRuntime().availableProcessors();
+        List<String> failures = new ArrayList<>();
+
+        for (int threads : IntStream.of(1, 4, cores).distinct().toArray()) {
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result("jmh-result-t" + threads + ".json")
+                    .build();
+            checkAllocations(new Runner(options).run(), failures);
+        }
+
+        if (!failures.isEmpty()) {
+            System.err.println("Allocation gate failed (limit " + MAX_BYTES_PER_OP + " B/op):");
+            for (String failure : failures) {
+                System.err.println("  " + failure);
+            }
+            System.exit(1);
+        }
+    }
+
+    private static void checkAllocations(Collection<RunResult> results, List<String> failures) {
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            String benchmark = params.getBenchmark();
+            String owner = benchmark.substring(0, benchmark.lastIndexOf('.'));
+            if (!ALLOCATION_FREE.contains(owner)) {
+                continue;
+            }
+
+            String label = benchmark + describe(params) + " @ " + params.getThreads() + " threads";
+            Result<?> norm = result.getSecondaryResults().get("gc.alloc.rate.norm");
+            if (norm == null) {
+                failures.add(label + ": no gc.alloc.rate.norm result");
+            } else if (norm.getScore() > MAX_BYTES_PER_OP) {
+                failures.add(label + ": " + String.format("%.2f", norm.getScore()) + " B/op");
+            }
+        }
+    }
+
+    private static String describe(BenchmarkParams params) {
+        StringBuilder sb = new StringBuilder();
+        for (String key : params.getParamsKeys()) {
+            sb.append(sb.length() == 0 ? " (" : ", ").append(key).append('=').append(params.getParam(key));
+        }
+        return sb.length() == 0 ? "" : sb.append(')').toString();
+    }
+}
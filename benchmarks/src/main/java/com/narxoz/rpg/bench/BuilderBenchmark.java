@@ -0,0 +1,44 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.enemy.Enemy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builder hot path: a full BasicEnemyBuilder / BossEnemyBuilder chain
+ * including the themed factory calls, as Main does it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BuilderBenchmark {
+
+    @Param({"FIRE", "SHADOW"})
+    public String theme;
+
+    @Param({"3", "8"})
+    public int abilityCount;
+
+    @Benchmark
+    public Enemy basicEnemyBuild() {
+        return Fixtures.goblinBuilder(theme, abilityCount).build();
+    }
+
+    @Benchmark
+    public Enemy bossEnemyBuild() {
+        return Fixtures.dragonBuilder(theme, abilityCount).build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.enemy.Enemy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prototype hot path: Goblin.clone() and DragonBoss.clone().
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CloneBenchmark {
+
+    @Param({"FIRE", "ICE", "SHADOW"})
+    public String theme;
+
+    @Param({"3", "8"})
+    public int abilityCount;
+
+    private Enemy goblin;
+    private Enemy dragon;
+
+    @Setup
+    public void setUp() {
+        goblin = Fixtures.goblin(theme, abilityCount);
+        dragon = Fixtures.dragon(theme, abilityCount);
+    }
+
+    @Benchmark
+    public Enemy goblinClone() {
+        return goblin.clone();
+    }
+
+    @Benchmark
+    public Enemy dragonBossClone() {
+        return dragon.clone();
+    }
+}
@@ -0,0 +1,89 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.builder.BasicEnemyBuilder;
+import com.narxoz.rpg.builder.BossEnemyBuilder;
+import com.narxoz.rpg.builder.EnemyBuilder;
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.factory.EnemyComponentFactory;
+import com.narxoz.rpg.factory.FireComponentFactory;
+import com.narxoz.rpg.factory.IceComponentFactory;
+import com.narxoz.rpg.factory.ShadowComponentFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared benchmark templates, built the same way Main builds them.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static EnemyComponentFactory factory(String theme) {
+        switch (theme) {
+            case "FIRE":
+                return new FireComponentFactory();
+            case "ICE":
+                return new IceComponentFactory();
+            case "SHADOW":
+                return new ShadowComponentFactory();
+            default:
+                throw new IllegalArgumentException("Unknown theme: " + theme);
+        }
+    }
+
+    /**
+     * @return the theme's abilities, repeated until there are at least {@code count}
+     */
+    static List<Ability> abilities(EnemyComponentFactory factory, int count) {
+        List<Ability> abilities = new ArrayList<>(factory.createAbilities());
+        while (abilities.size() < count) {
+            abilities.addAll(factory.createAbilities());
+        }
+        return abilities.subList(0, Math.max(count, 0));
+    }
+
+    static EnemyBuilder goblinBuilder(String theme, int abilityCount) {
+        EnemyComponentFactory factory = factory(theme);
+        return new BasicEnemyBuilder()
+                .setName(theme + " Goblin")
+                .setHealth(120)
+                .setDamage(18)
+                .setDefense(6)
+                .setSpeed(40)
+                .setElement(theme)
+                .addAbilities(abilities(factory, abilityCount))
+                .setLootTable(factory.createLootTable())
+                .setAI(factory.createAIBehavior());
+    }
+
+    static EnemyBuilder dragonBuilder(String theme, int abilityCount) {
+        EnemyComponentFactory factory = factory(theme);
+        return new BossEnemyBuilder()
+                .setName(theme + " Dragon")
+                .setHealth(50000)
+                .setDamage(500)
+                .setDefense(200)
+                .setSpeed(50)
+                .setElement(theme)
+                .addAbilities(abilities(factory, abilityCount))
+                .setLootTable(factory.createLootTable())
+                .setAI(factory.createAIBehavior())
+                .setCanFly(true)
+                .setHasBreathAttack(true)
+                .setWingspan(20)
+                .addPhase(1, 50000)
+                .addPhase(2, 30000)
+                .addPhase(3, 15000);
+    }
+
+    static Enemy goblin(String theme, int abilityCount) {
+        return goblinBuilder(theme, abilityCount).build();
+    }
+
+    static Enemy dragon(String theme, int abilityCount) {
+        return dragonBuilder(theme, abilityCount).build();
+    }
+}
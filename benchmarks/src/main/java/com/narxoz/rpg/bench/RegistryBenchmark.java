@@ -0,0 +1,70 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EnemyRegistry spawn paths. The registry is shared by all benchmark threads,
+ * so multi-threaded runs also measure contention on the read path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegistryBenchmark {
+
+    /** Number of templates registered next to the two that are spawned. */
+    @Param({"10", "1000"})
+    public int catalogSize;
+
+    private EnemyRegistry registry;
+    private int goblinHandle;
+    private int dragonHandle;
+
+    @Setup
+    public void setUp() {
+        registry = new EnemyRegistry();
+        for (int i = 0; i < catalogSize; i++) {
+            registry.registerTemplate("filler-" + i, Fixtures.goblin("ICE", 2));
+        }
+        registry.registerTemplate("goblin", Fixtures.goblin("SHADOW", 3));
+        registry.registerTemplate("fire-dragon", Fixtures.dragon("FIRE", 3));
+        goblinHandle = registry.handleOf("goblin");
+        dragonHandle = registry.handleOf("fire-dragon");
+    }
+
+    @Benchmark
+    public Enemy createGoblinFromTemplate() {
+        return registry.createFromTemplate("goblin");
+    }
+
+    @Benchmark
+    public Enemy createDragonFromTemplate() {
+        return registry.createFromTemplate("fire-dragon");
+    }
+
+    @Benchmark
+    public Enemy createGoblinFromHandle() {
+        return registry.createFromHandle(goblinHandle);
+    }
+
+    @Benchmark
+    public Enemy createDragonFromHandle() {
+        return registry.createFromHandle(dragonHandle);
+    }
+}
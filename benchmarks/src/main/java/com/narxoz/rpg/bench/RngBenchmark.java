@@ -0,0 +1,80 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.random.RngService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of a crit roll (nextInt(100)) per random source.
+ * Run at several thread counts (-t 1, -t 4, ...) to see contention:
+ * sharedRandom degrades with threads, the others should scale.
+ *
+ * encounterStream includes deriving a fresh stream every 16 rolls, the
+ * pattern EncounterSimulator uses.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RngBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        final RngService service = new RngService(42);
+        final Random random = new Random(42);
+    }
+
+    @State(Scope.Thread)
+    public static class PerThread {
+        SplittableRandom stream;
+        long encounter;
+        int rolls;
+
+        @Setup
+        public void setUp(Shared shared) {
+            stream = shared.service.forThread();
+        }
+    }
+
+    @Benchmark
+    public int threadLocalRandom() {
+        return ThreadLocalRandom.current().nextInt(100);
+    }
+
+    @Benchmark
+    public int sharedRandom(Shared shared) {
+        return shared.random.nextInt(100);
+    }
+
+    @Benchmark
+    public int threadStream(PerThread state) {
+        return state.stream.nextInt(100);
+    }
+
+    @Benchmark
+    public int threadStreamLookup(Shared shared) {
+        return shared.service.forThread().nextInt(100);
+    }
+
+    @Benchmark
+    public int encounterStream(Shared shared, PerThread state) {
+        if ((state.rolls++ & 15) == 0) {
+            state.stream = shared.service.forEncounter(state.encounter++);
+        }
+        return state.stream.nextInt(100);
+    }
+}
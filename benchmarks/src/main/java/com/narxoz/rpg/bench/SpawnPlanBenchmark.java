@@ -0,0 +1,65 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.prototype.SpawnPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spawning from a compiled SpawnPlan versus clone() of the same template.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpawnPlanBenchmark {
+
+    @Param({"3", "8"})
+    public int abilityCount;
+
+    private Enemy goblin;
+    private Enemy dragon;
+    private SpawnPlan goblinPlan;
+    private SpawnPlan dragonPlan;
+
+    @Setup
+    public void setUp() {
+        goblin = Fixtures.goblin("SHADOW", abilityCount);
+        dragon = Fixtures.dragon("FIRE", abilityCount);
+        goblinPlan = SpawnPlan.compile(goblin);
+        dragonPlan = SpawnPlan.compile(dragon);
+    }
+
+    @Benchmark
+    public Enemy goblinClone() {
+        return goblin.clone();
+    }
+
+    @Benchmark
+    public Enemy goblinPlanSpawn() {
+        return goblinPlan.spawn();
+    }
+
+    @Benchmark
+    public Enemy dragonBossClone() {
+        return dragon.clone();
+    }
+
+    @Benchmark
+    public Enemy dragonBossPlanSpawn() {
+        return dragonPlan.spawn();
+    }
+}
@@ -0,0 +1,99 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.battle.TimerListener;
+import com.narxoz.rpg.battle.TimingWheel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One battle tick over {@code enemies} enemies, each with one running
+ * cooldown that restarts with a random length (1..maxCooldown) when it expires.
+ *
+ * naiveCountdown decrements a counter per enemy every tick (O(enemies));
+ * timingWheel only touches the timers that expire (O(expired)).
+ * Reported as average time per tick.
+ *
+ * Expect the wheel to lose when most timers expire every few ticks
+ * (maxCooldown=8: the countdown is a sequential scan, the wheel touches a
+ * random record per expiry) and to win by one to two orders of magnitude
+ * once only a small fraction expires per tick.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimingWheelBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int enemies;
+
+    @Param({"8", "256", "4096"})
+    public int maxCooldown;
+
+    private int[] remaining;
+    private int[] lengths;
+    private int cursor;
+
+    private TimingWheel wheel;
+    private TimerListener restart;
+    private int expired;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        lengths = new int[4096];
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = 1 + random.nextInt(maxCooldown);
+        }
+
+        remaining = new int[enemies];
+        wheel = new TimingWheel(enemies);
+        for (int i = 0; i < enemies; i++) {
+            int length = nextLength();
+            remaining[i] = length;
+            wheel.schedule(length, i, 0);
+        }
+        restart = (target, kind) -> {
+            expired++;
+            wheel.schedule(nextLength(), target, kind);
+        };
+    }
+
+    private int nextLength() {
+        return lengths[cursor++ & (lengths.length - 1)];
+    }
+
+    @Benchmark
+    public int naiveCountdown() {
+        int fired = 0;
+        int[] r = remaining;
+        for (int i = 0; i < r.length; i++) {
+            if (--r[i] == 0) {
+                r[i] = nextLength();
+                fired++;
+            }
+        }
+        return fired;
+    }
+
+    @Benchmark
+    public int timingWheel() {
+        expired = 0;
+        wheel.advance(restart);
+        return expired;
+    }
+}
@@ -0,0 +1,18 @@
+package com.narxoz.rpg.battle;
+
+/**
+ * One damage calculation step, or a whole pipeline of them
+ * (see {@link DamagePipeline}). Primitive-only so it never allocates.
+ */
+@FunctionalInterface
+public interface DamageFunction {
+
+    /**
+     * @param damage        incoming damage (the ability's base damage for a whole pipeline)
+     * @param targetDefense defense of the target
+     * @param bonusPercent  attacker's active damage bonus (e.g. BattleCry)
+     * @param critical      whether this hit rolled a crit
+     * @return resulting damage
+     */
+    int apply(int damage, int targetDefense, int bonusPercent, boolean critical);
+}
@@ -0,0 +1,243 @@
+package com.narxoz.rpg.battle;
+
+import com.narxoz.rpg.combat.AbilityCatalog;
+import com.narxoz.rpg.enemy.Enemy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Damage math for one attacker as a chain of modifier rules, with two ways to run it.
+ *
+ * Stages, always applied in this order:
+ *   flat bonus (e.g. the enemy's damage stat; several are summed)
+ *   → scale percent (set at most once)
+ *   → context bonus percent (buffs)
+ *   → crit multiplier
+ *   → defense mitigation: damage * 100 / (100 + defense)
+ *   → floor at 0
+ *
+ * interpreted() runs the rule objects one by one through a shared loop.
+ * Once several templates with different rule sets go through it, that
+ * call site is megamorphic and the JIT can no longer inline the rules.
+ *
+ * compile() folds the rules into one lambda that captures the folded
+ * constants. Every compiled pipeline is an instance of the same lambda
+ * class, so call sites stay monomorphic and the body inlines.
+ *
+ * Both forms run every stage through the same static step methods: each
+ * step computes in long and saturates to the int range, so the two forms
+ * agree for every input, including values near Integer.MAX_VALUE.
+ *
+ * A compiled pipeline bakes in the template's stats, so it is only valid
+ * while the template is unchanged. For registered templates use a
+ * DamageTable, which caches one per registry handle and recompiles when the
+ * handle's template is replaced.
+ */
+public final class DamagePipeline {
+
+    private final List<DamageFunction> rules;
+    private final int flat;
+    private final int scalePercent;
+    private final boolean contextBonus;
+    private final int critMultiplier;
+    private final boolean mitigation;
+
+    private DamagePipeline(Builder b) {
+        long flatSum = 0;
+        for (int flatBonus : b.flats) {
+            flatSum += flatBonus;
+        }
+        int flatTotal = saturate(flatSum);
+
+        List<DamageFunction> ordered = new ArrayList<>();
+        if (!b.flats.isEmpty()) {
+            ordered.add((d, def, bonus, crit) -> addFlat(d, flatTotal));
+        }
+        if (b.scalePercent != 100) {
+            int scale = b.scalePercent;
+            ordered.add((d, def, bonus, crit) -> scale(d, scale));
+        }
+        if (b.contextBonus) {
+            ordered.add(new BonusRule());
+        }
+        if (b.critMultiplier != 1) {
+            ordered.add(new CriticalRule(b.critMultiplier));
+        }
+        if (b.mitigation) {
+            ordered.add(new MitigationRule());
+        }
+        this.rules = Collections.unmodifiableList(ordered);
+        this.flat = flatTotal;
+        this.scalePercent = b.scalePercent;
+        this.contextBonus = b.contextBonus;
+        this.critMultiplier = b.critMultiplier;
+        this.mitigation = b.mitigation;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The modifier set of an enemy attack: its damage stat on top of the
+     * ability, buffs, crits (double damage, only if the template has
+     * ShadowStrike) and the target's defense.
+     */
+    public static DamagePipeline forTemplate(Enemy template) {
+        Builder b = builder()
+                .addFlat(template.getDamage())
+                .applyContextBonus()
+                .mitigateByDefense();
+        for (int i = 0; i < template.abilityCount(); i++) {
+            if (AbilityCatalog.idOf(template.abilityAt(i)) == AbilityCatalog.SHADOW_STRIKE) {
+                b.critical(2);
+                break;
+            }
+        }
+        return b.build();
+    }
+
+    /**
+     * @return the rules in application order (not including the final floor)
+     */
+    public List<DamageFunction> rules() {
+        return rules;
+    }
+
+    public DamageFunction interpreted() {
+        List<DamageFunction> chain = rules;
+        return (damage, defense, bonus, critical) -> {
+            int d = damage;
+            for (int i = 0; i < chain.size(); i++) {
+                d = chain.get(i).apply(d, defense, bonus, critical);
+            }
+            return Math.max(0, d);
+        };
+    }
+
+    public DamageFunction compile() {
+        int flat = this.flat;
+        int scale = this.scalePercent;
+        boolean bonusEnabled = this.contextBonus;
+        int crit = this.critMultiplier;
+        boolean mitigate = this.mitigation;
+        return (damage, defense, bonus, critical) -> {
+            int d = scale(addFlat(damage, flat), scale);
+            if (bonusEnabled) {
+                d = boost(d, bonus);
+            }
+            if (critical) {
+                d = multiply(d, crit);
+            }
+            if (mitigate) {
+                d = mitigate(d, defense);
+            }
+            return Math.max(0, d);
+        };
+    }
+
+    // Pipeline steps shared by the rule objects and the compiled form.
+    // A step with a neutral argument (flat 0, scale 100, multiplier 1)
+    // returns its input unchanged, so skipping it in the rule list is exact.
+
+    private static int addFlat(int damage, int flat) {
+        return saturate((long) damage + flat);
+    }
+
+    private static int scale(int damage, int percent) {
+        return saturate((long) damage * percent / 100);
+    }
+
+    private static int boost(int damage, int bonusPercent) {
+        return saturate((long) damage * (100L + bonusPercent) / 100);
+    }
+
+    private static int multiply(int damage, int multiplier) {
+        return saturate((long) damage * multiplier);
+    }
+
+    private static int mitigate(int damage, int defense) {
+        return saturate((long) damage * 100 / (100L + Math.max(defense, 0)));
+    }
+
+    private static int saturate(long value) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
+    }
+
+    private static final class BonusRule implements DamageFunction {
+        @Override
+        public int apply(int damage, int targetDefense, int bonusPercent, boolean critical) {
+            return boost(damage, bonusPercent);
+        }
+    }
+
+    private static final class CriticalRule implements DamageFunction {
+
+        private final int multiplier;
+
+        CriticalRule(int multiplier) {
+            this.multiplier = multiplier;
+        }
+
+        @Override
+        public int apply(int damage, int targetDefense, int bonusPercent, boolean critical) {
+            return critical ? multiply(damage, multiplier) : damage;
+        }
+    }
+
+    private static final class MitigationRule implements DamageFunction {
+        @Override
+        public int apply(int damage, int targetDefense, int bonusPercent, boolean critical) {
+            return mitigate(damage, targetDefense);
+        }
+    }
+
+    public static final class Builder {
+
+        private final List<Integer> flats = new ArrayList<>();
+        private int scalePercent = 100;
+        private boolean contextBonus;
+        private int critMultiplier = 1;
+        private boolean mitigation;
+
+        private Builder() {
+        }
+
+        public Builder addFlat(int amount) {
+            flats.add(amount);
+            return this;
+        }
+
+        public Builder scale(int percent) {
+            if (percent < 0) {
+                throw new IllegalArgumentException("Scale must be >= 0");
+            }
+            this.scalePercent = percent;
+            return this;
+        }
+
+        public Builder applyContextBonus() {
+            this.contextBonus = true;
+            return this;
+        }
+
+        public Builder critical(int multiplier) {
+            if (multiplier < 1) {
+                throw new IllegalArgumentException("Crit multiplier must be >= 1");
+            }
+            this.critMultiplier = multiplier;
+            return this;
+        }
+
+        public Builder mitigateByDefense() {
+            this.mitigation = true;
+            return this;
+        }
+
+        public DamagePipeline build() {
+            return new DamagePipeline(this);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.narxoz.rpg.battle;
+
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+
+import java.util.Arrays;
+
+/**
+ * Compiled damage pipelines (DamagePipeline.forTemplate(...).compile()) for
+ * the templates of one EnemyRegistry, looked up by handle.
+ *
+ * Each slot remembers the template instance it was compiled from. A lookup
+ * that finds a different template under the handle (the key was
+ * re-registered, a variant was re-resolved, or the registry was cleared)
+ * compiles again, so a pipeline never outlives its template. Only registry
+ * templates are cached, one slot per handle.
+ *
+ * Thread-safety: lookups read a volatile copy-on-write slot array and never
+ * block; compiles are serialized on the table.
+ */
+public final class DamageTable {
+
+    private final EnemyRegistry registry;
+    private volatile Slot[] slots = new Slot[0];
+
+    public DamageTable(EnemyRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry must not be null");
+        }
+        this.registry = registry;
+    }
+
+    public DamageFunction forKey(String key) {
+        return forHandle(registry.handleOf(key));
+    }
+
+    public DamageFunction forHandle(int handle) {
+        Enemy template = registry.getTemplate(handle);
+        Slot[] current = slots;
+        if (handle < current.length) {
+            Slot slot = current[handle];
+            if (slot != null && slot.template == template) {
+                return slot.function;
+            }
+        }
+        return compile(handle, template);
+    }
+
+    private synchronized DamageFunction compile(int handle, Enemy template) {
+        Slot[] current = slots;
+        if (handle < current.length && current[handle] != null && current[handle].template == template) {
+            return current[handle].function;
+        }
+        Slot slot = new Slot(template, DamagePipeline.forTemplate(template).compile());
+        Slot[] next = Arrays.copyOf(current, Math.max(current.length, handle + 1));
+        next[handle] = slot;
+        slots = next;
+        return slot.function;
+    }
+
+    private static final class Slot {
+
+        final Enemy template;
+        final DamageFunction function;
+
+        Slot(Enemy template, DamageFunction function) {
+            this.template = template;
+            this.function = function;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.narxoz.rpg.battle;
+
+/**
+ * Result of a {@link DpsEstimator} run: expected damage per turn of one kit.
+ */
+public final class DpsEstimate {
+
+    private final long samples;
+    private final double mean;
+    private final double standardDeviation;
+    private final double p50;
+    private final double p90;
+    private final double p99;
+    private final boolean converged;
+
+    DpsEstimate(long samples, double mean, double standardDeviation,
+                double p50, double p90, double p99, boolean converged) {
+        this.samples = samples;
+        this.mean = mean;
+        this.standardDeviation = standardDeviation;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.converged = converged;
+    }
+
+    public long getSamples() {
+        return samples;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getStandardDeviation() {
+        return standardDeviation;
+    }
+
+    /**
+     * @return half-width of the 95% confidence interval of the mean
+     */
+    public double getConfidenceHalfWidth() {
+        return samples == 0 ? 0 : 1.96 * standardDeviation / Math.sqrt(samples);
+    }
+
+    public double getConfidenceLow() {
+        return mean - getConfidenceHalfWidth();
+    }
+
+    public double getConfidenceHigh() {
+        return mean + getConfidenceHalfWidth();
+    }
+
+    public double getP50() {
+        return p50;
+    }
+
+    public double getP90() {
+        return p90;
+    }
+
+    public double getP99() {
+        return p99;
+    }
+
+    /**
+     * @return true if the target precision was reached before the sample limit
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.1f dmg/turn (95%% CI %.1f..%.1f), p50=%.1f p90=%.1f p99=%.1f, %d samples%s",
+                mean, getConfidenceLow(), getConfidenceHigh(), p50, p90, p99, samples,
+                converged ? "" : " (not converged)");
+    }
+}
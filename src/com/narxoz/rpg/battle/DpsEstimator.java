@@ -0,0 +1,301 @@
+package com.narxoz.rpg.battle;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.BattleCry;
+import com.narxoz.rpg.combat.FrostBreath;
+import com.narxoz.rpg.combat.MeteorStorm;
+import com.narxoz.rpg.combat.ShadowStrike;
+import com.narxoz.rpg.factory.EnemyComponentFactory;
+import com.narxoz.rpg.factory.FireComponentFactory;
+import com.narxoz.rpg.factory.IceComponentFactory;
+import com.narxoz.rpg.factory.ShadowComponentFactory;
+import com.narxoz.rpg.random.RngService;
+import com.narxoz.rpg.random.Rolls;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+
+/**
+ * Monte Carlo estimate of the expected damage per turn of an ability kit.
+ *
+ * One sample is a rotation of ROTATION_TURNS turns against a target:
+ * - MeteorStorm is cast whenever it is off cooldown; each meteor hits on its own roll.
+ * - BattleCry is cast whenever its attack boost is not active.
+ * - Otherwise the strongest damaging ability that is not resting is used
+ *   (same rest rule as EncounterSimulator), else a basic attack.
+ * - Every hit lands with hitChancePercent; ShadowStrike can crit for double.
+ * - A FrostBreath hit slows the target: next turn the caster gets an extra
+ *   action with probability slowPercent.
+ * Defensive abilities (shields, Vanish) do no damage and are never cast.
+ *
+ * Samples are drawn in batches of BATCH on a parallel stream; sample i uses
+ * RngService.forEncounter(i). Each sample is the integral damage of its
+ * rotation and the histogram keeps long totals, so merging partial results
+ * in whatever order the pool splits them gives bit-for-bit the same estimate
+ * at any pool size.
+ * Sampling stops once the 95% confidence half-width is within
+ * relativePrecision of the mean, or at maxSamples.
+ * Percentiles come from a histogram with 1 dmg/turn buckets.
+ */
+public class DpsEstimator {
+
+    public static final int ROTATION_TURNS = 20;
+    private static final int BATCH = 1 << 16;
+    private static final int MIN_SAMPLES = BATCH;
+
+    private final int baseDamage;
+    private final int hitChancePercent;
+
+    public DpsEstimator(int baseDamage, int hitChancePercent) {
+        if (baseDamage < 0) {
+            throw new IllegalArgumentException("Base damage must be >= 0");
+        }
+        if (hitChancePercent < 0 || hitChancePercent > 100) {
+            throw new IllegalArgumentException("Hit chance must be in [0, 100]");
+        }
+        this.baseDamage = baseDamage;
+        this.hitChancePercent = hitChancePercent;
+    }
+
+    public DpsEstimate estimate(List<Ability> kit, long seed, double relativePrecision, long maxSamples) {
+        if (kit == null) {
+            throw new IllegalArgumentException("Kit must not be null");
+        }
+        if (relativePrecision <= 0) {
+            throw new IllegalArgumentException("Precision must be > 0");
+        }
+        if (maxSamples <= 0) {
+            throw new IllegalArgumentException("Max samples must be > 0");
+        }
+        Kit compiled = new Kit(kit, baseDamage);
+        RngService rng = new RngService(seed);
+        int buckets = compiled.maxTurnDamage() + 1;
+
+        Histogram total = new Histogram(buckets);
+        boolean converged = false;
+        for (long start = 0; start < maxSamples && !converged; start += BATCH) {
+            long end = Math.min(start + BATCH, maxSamples);
+            Histogram batch = LongStream.range(start, end).parallel().collect(
+                    () -> new Histogram(buckets),
+                    (h, i) -> h.add(sample(compiled, rng.forEncounter(i))),
+                    Histogram::combine);
+            total.combine(batch);
+            converged = total.count >= MIN_SAMPLES
+                    && 1.96 * total.standardDeviation() / Math.sqrt(total.count)
+                    <= relativePrecision * total.mean();
+        }
+        return new DpsEstimate(total.count, total.mean(), total.standardDeviation(),
+                total.percentile(0.50), total.percentile(0.90), total.percentile(0.99), converged);
+    }
+
+    /**
+     * Estimates the kits of the Fire, Ice and Shadow component factories.
+     *
+     * @return theme → estimate
+     */
+    public Map<String, DpsEstimate> estimateThemes(long seed, double relativePrecision, long maxSamples) {
+        Map<String, EnemyComponentFactory> themes = new LinkedHashMap<>();
+        themes.put("FIRE", new FireComponentFactory());
+        themes.put("ICE", new IceComponentFactory());
+        themes.put("SHADOW", new ShadowComponentFactory());
+
+        Map<String, DpsEstimate> results = new LinkedHashMap<>();
+        for (Map.Entry<String, EnemyComponentFactory> e : themes.entrySet()) {
+            results.put(e.getKey(),
+                    estimate(e.getValue().createAbilities(), seed, relativePrecision, maxSamples));
+        }
+        return results;
+    }
+
+    /**
+     * @return total damage over one rotation
+     */
+    private long sample(Kit kit, SplittableRandom random) {
+        int[] readyAt = new int[kit.size];
+        int boostUntil = -1;
+        boolean slowed = false;
+        long damage = 0;
+
+        for (int turn = 0; turn < ROTATION_TURNS; turn++) {
+            int actions = slowed && Rolls.chance(random, kit.slowPercent) ? 2 : 1;
+            slowed = false;
+            for (int a = 0; a < actions; a++) {
+                int boost = turn <= boostUntil ? kit.boostPercent : 0;
+
+                if (kit.meteor >= 0 && readyAt[kit.meteor] <= turn) {
+                    readyAt[kit.meteor] = turn + kit.cooldown[kit.meteor];
+                    for (int m = 0; m < kit.meteorCount; m++) {
+                        if (Rolls.chance(random, hitChancePercent)) {
+                            damage += boosted(kit.damage[kit.meteor], boost);
+                        }
+                    }
+                    continue;
+                }
+                if (kit.cry >= 0 && boost == 0) {
+                    boostUntil = turn + kit.cooldown[kit.cry];
+                    continue;
+                }
+
+                int best = -1;
+                for (int i = 0; i < kit.size; i++) {
+                    if (i != kit.meteor && kit.damage[i] > 0 && readyAt[i] <= turn
+                            && (best < 0 || kit.damage[i] > kit.damage[best])) {
+                        best = i;
+                    }
+                }
+                int hit = best < 0 ? kit.baseDamage : kit.damage[best];
+                if (best >= 0) {
+                    readyAt[best] = turn + kit.cooldown[best];
+                }
+                if (!Rolls.chance(random, hitChancePercent)) {
+                    continue;
+                }
+                if (best == kit.crit && Rolls.chance(random, kit.critPercent)) {
+                    hit *= 2;
+                }
+                if (best == kit.frost) {
+                    slowed = true;
+                }
+                damage += boosted(hit, boost);
+            }
+        }
+        return damage;
+    }
+
+    private static int boosted(int damage, int boostPercent) {
+        return damage * (100 + boostPercent) / 100;
+    }
+
+    /**
+     * A kit flattened into arrays, resolved once per estimate.
+     * cooldown[i] is the rest after use, or the boost duration for BattleCry.
+     */
+    private static final class Kit {
+
+        final int size;
+        final int[] damage;
+        final int[] cooldown;
+        final int baseDamage;
+        int meteor = -1;
+        int meteorCount;
+        int cry = -1;
+        int boostPercent;
+        int crit = -1;
+        int critPercent;
+        int frost = -1;
+        int slowPercent;
+
+        Kit(List<Ability> abilities, int baseDamage) {
+            this.size = abilities.size();
+            this.damage = new int[size];
+            this.cooldown = new int[size];
+            this.baseDamage = baseDamage;
+            for (int i = 0; i < size; i++) {
+                Ability ability = abilities.get(i);
+                damage[i] = ability.getDamage();
+                cooldown[i] = EncounterSimulator.DEFAULT_COOLDOWN;
+                if (ability instanceof MeteorStorm) {
+                    meteor = i;
+                    meteorCount = ((MeteorStorm) ability).getMeteorCount();
+                    cooldown[i] = ((MeteorStorm) ability).getCooldownTurns();
+                } else if (ability instanceof BattleCry) {
+                    cry = i;
+                    boostPercent = ((BattleCry) ability).getAttackBoostPercent();
+                    cooldown[i] = ((BattleCry) ability).getDurationTurns();
+                } else if (ability instanceof ShadowStrike) {
+                    crit = i;
+                    critPercent = ((ShadowStrike) ability).getCritChancePercent();
+                } else if (ability instanceof FrostBreath) {
+                    frost = i;
+                    slowPercent = ((FrostBreath) ability).getSlowPercent();
+                }
+            }
+        }
+
+        /**
+         * Upper bound of one turn's damage (two actions, crit, boost), used
+         * to size the histogram.
+         */
+        int maxTurnDamage() {
+            int single = baseDamage;
+            for (int i = 0; i < size; i++) {
+                int hit = i == meteor ? damage[i] * meteorCount : damage[i];
+                single = Math.max(single, i == crit ? hit * 2 : hit);
+            }
+            return 2 * boosted(single, boostPercent);
+        }
+    }
+
+    /**
+     * Exact moments of the rotation totals plus a 1 dmg/turn histogram.
+     *
+     * Everything is kept in longs, so combine() is associative and the
+     * result does not depend on the merge order. The *Exact arithmetic turns
+     * an overflow into an ArithmeticException instead of a wrong estimate.
+     */
+    private static final class Histogram {
+
+        final long[] buckets;
+        long count;
+        long sum;
+        long sumOfSquares;
+
+        Histogram(int size) {
+            buckets = new long[size];
+        }
+
+        void add(long rotationDamage) {
+            count++;
+            sum = Math.addExact(sum, rotationDamage);
+            sumOfSquares = Math.addExact(sumOfSquares, Math.multiplyExact(rotationDamage, rotationDamage));
+            buckets[(int) Math.min(rotationDamage / ROTATION_TURNS, buckets.length - 1)]++;
+        }
+
+        Histogram combine(Histogram other) {
+            count += other.count;
+            sum = Math.addExact(sum, other.sum);
+            sumOfSquares = Math.addExact(sumOfSquares, other.sumOfSquares);
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] += other.buckets[i];
+            }
+            return this;
+        }
+
+        /**
+         * @return mean damage per turn
+         */
+        double mean() {
+            return count == 0 ? 0 : (double) sum / count / ROTATION_TURNS;
+        }
+
+        /**
+         * @return sample standard deviation of the damage per turn
+         */
+        double standardDeviation() {
+            if (count < 2) {
+                return 0;
+            }
+            double rotationMean = (double) sum / count;
+            double variance = ((double) sumOfSquares - rotationMean * sum) / (count - 1);
+            return Math.sqrt(Math.max(0, variance)) / ROTATION_TURNS;
+        }
+
+        /**
+         * @return midpoint of the bucket holding the q-quantile
+         */
+        double percentile(double q) {
+            long rank = (long) Math.ceil(q * count);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank && seen > 0) {
+                    return i + 0.5;
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.narxoz.rpg.battle;
+
+import com.narxoz.rpg.prototype.EnemyRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs many concurrent, mostly idle encounters, one thread each.
+ *
+ * Each encounter is an {@link EnemyInstance} over a registry template (no
+ * clone) driven by a {@link PlayerInput}: the player attacks, the enemy
+ * counterattacks, until the enemy dies, the player flees or the encounter
+ * timeout passes. Encounters block while waiting for input, so they are
+ * written as plain sequential code.
+ *
+ * Threads:
+ * On a JDK with virtual threads (21+) every encounter gets its own virtual
+ * thread, and 100k idle encounters cost little more than their stacks.
+ * On older JDKs the host falls back to a cached pool of daemon platform
+ * threads; keep maxConcurrent in the low thousands there. The mode is
+ * picked at runtime (see isVirtual), no pool sizing is needed in either case.
+ *
+ * Admission:
+ * At most maxConcurrent encounters run at once; submit rejects the rest
+ * immediately with RejectedExecutionException instead of queueing them.
+ */
+public class EncounterHost implements AutoCloseable {
+
+    private final EnemyRegistry registry;
+    private final int maxConcurrent;
+    private final Semaphore admission;
+    private final long timeoutNanos;
+    private final ExecutorService executor;
+    private final boolean virtual;
+
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicInteger peakActive = new AtomicInteger();
+
+    public EncounterHost(EnemyRegistry registry, int maxConcurrent, Duration encounterTimeout) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry must not be null");
+        }
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("Max concurrent encounters must be > 0");
+        }
+        if (encounterTimeout == null || encounterTimeout.isNegative() || encounterTimeout.isZero()) {
+            throw new IllegalArgumentException("Encounter timeout must be > 0");
+        }
+        this.registry = registry;
+        this.maxConcurrent = maxConcurrent;
+        this.admission = new Semaphore(maxConcurrent);
+        this.timeoutNanos = encounterTimeout.toNanos();
+
+        ExecutorService virtualExecutor = newVirtualThreadExecutor();
+        this.virtual = virtualExecutor != null;
+        this.executor = virtual ? virtualExecutor : Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "encounter");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Starts an encounter against the template {@code key}.
+     *
+     * @throws RejectedExecutionException if maxConcurrent encounters are already running
+     *                                    or the host is closed
+     */
+    public CompletableFuture<EncounterResult> submit(String key, PlayerInput input) {
+        if (input == null) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+        EnemyInstance enemy;
+        try {
+            enemy = EnemyInstance.spawn(registry, key);
+        } catch (IllegalArgumentException e) {
+            input.disconnect();
+            throw e;
+        }
+        if (!admission.tryAcquire()) {
+            rejected.incrementAndGet();
+            input.disconnect();
+            throw new RejectedExecutionException("Encounter limit reached");
+        }
+        peakActive.accumulateAndGet(active(), Math::max);
+
+        EncounterTask task = new EncounterTask(key, enemy, input);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            admission.release();
+            input.disconnect();
+            throw e;
+        }
+        return task.result;
+    }
+
+    private EncounterResult run(String key, EnemyInstance enemy, PlayerInput input) {
+        long start = System.nanoTime();
+        long deadline = start + timeoutNanos;
+        int turns = 0;
+        int damageTaken = 0;
+        EncounterResult.Outcome outcome;
+
+        try {
+            while (true) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    outcome = EncounterResult.Outcome.TIMED_OUT;
+                    break;
+                }
+                int attack = input.awaitAttack(remaining, TimeUnit.NANOSECONDS);
+                turns++;
+                if (attack < 0) {
+                    outcome = EncounterResult.Outcome.FLED;
+                    break;
+                }
+                enemy.applyDamage(attack, null);
+                if (enemy.isDefeated()) {
+                    outcome = EncounterResult.Outcome.VICTORY;
+                    break;
+                }
+                damageTaken += enemy.getEffectiveDamage();
+            }
+        } catch (TimeoutException e) {
+            outcome = EncounterResult.Outcome.TIMED_OUT;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = EncounterResult.Outcome.INTERRUPTED;
+        }
+        return new EncounterResult(key, outcome, turns, damageTaken, System.nanoTime() - start);
+    }
+
+    /**
+     * @return true if encounters run on virtual threads
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * @return number of encounters running right now
+     */
+    public int active() {
+        return maxConcurrent - admission.availablePermits();
+    }
+
+    /**
+     * @return highest number of encounters that have run at the same time
+     */
+    public int peakActive() {
+        return peakActive.get();
+    }
+
+    public long completed() {
+        return completed.get();
+    }
+
+    public long rejected() {
+        return rejected.get();
+    }
+
+    /**
+     * Stops accepting encounters and interrupts the running ones; they
+     * complete with INTERRUPTED. Encounters that were accepted but never
+     * started complete with INTERRUPTED right away.
+     */
+    @Override
+    public void close() {
+        for (Runnable pending : executor.shutdownNow()) {
+            if (pending instanceof EncounterTask) {
+                ((EncounterTask) pending).abandon();
+            }
+        }
+    }
+
+    /**
+     * One admitted encounter. Whether it runs or is abandoned by close(),
+     * it completes its future, disconnects the input and returns its
+     * admission permit exactly once.
+     */
+    private final class EncounterTask implements Runnable {
+
+        final CompletableFuture<EncounterResult> result = new CompletableFuture<>();
+        private final String key;
+        private final EnemyInstance enemy;
+        private final PlayerInput input;
+
+        EncounterTask(String key, EnemyInstance enemy, PlayerInput input) {
+            this.key = key;
+            this.enemy = enemy;
+            this.input = input;
+        }
+
+        @Override
+        public void run() {
+            try {
+                result.complete(EncounterHost.this.run(key, enemy, input));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                finish();
+            }
+        }
+
+        void abandon() {
+            try {
+                result.complete(new EncounterResult(key, EncounterResult.Outcome.INTERRUPTED, 0, 0, 0));
+            } finally {
+                finish();
+            }
+        }
+
+        private void finish() {
+            input.disconnect();
+            completed.incrementAndGet();
+            admission.release();
+        }
+    }
+
+    /**
+     * @return Executors.newVirtualThreadPerTaskExecutor() if this JDK has it, else null
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.narxoz.rpg.battle;
+
+/**
+ * Outcome of one encounter run by an {@link EncounterHost}.
+ */
+public final class EncounterResult {
+
+    public enum Outcome {
+        VICTORY, FLED, TIMED_OUT, INTERRUPTED
+    }
+
+    private final String templateKey;
+    private final Outcome outcome;
+    private final int turns;
+    private final int damageTaken;
+    private final long elapsedNanos;
+
+    EncounterResult(String templateKey, Outcome outcome, int turns, int damageTaken, long elapsedNanos) {
+        this.templateKey = templateKey;
+        this.outcome = outcome;
+        this.turns = turns;
+        this.damageTaken = damageTaken;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getTemplateKey() {
+        return templateKey;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * @return total damage of the enemy's counterattacks
+     */
+    public int getDamageTaken() {
+        return damageTaken;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return templateKey + ": " + outcome + " after " + turns + " turns (" + elapsedNanos / 1_000_000 + " ms)";
+    }
+}
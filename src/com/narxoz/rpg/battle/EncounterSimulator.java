@@ -0,0 +1,188 @@
+package com.narxoz.rpg.battle;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.MeteorStorm;
+import com.narxoz.rpg.combat.ShadowStrike;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+import com.narxoz.rpg.random.RngService;
+import com.narxoz.rpg.random.Rolls;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Offline balancing tool: runs many independent hero-vs-enemy encounters in
+ * parallel and aggregates the outcome per template.
+ *
+ * Rules (one encounter):
+ * - Each round both sides act once; the faster side (speed) acts first, the
+ *   hero wins ties.
+ * - Hits are mitigated by the target's defense: damage * 100 / (100 + defense),
+ *   with ±10% random variance.
+ * - The enemy uses its strongest damaging ability that is off cooldown, adding
+ *   its damage stat; otherwise it makes a basic attack with its damage stat.
+ *   MeteorStorm uses its own cooldown; other abilities need one turn of rest.
+ *   ShadowStrike can crit for double damage.
+ * - An encounter still undecided after MAX_TURNS rounds is a timeout.
+ *
+ * Encounter i uses RngService.forEncounter(i), so results are identical
+ * for any pool size. Enemies are EnemyInstances over the
+ * shared template; nothing is cloned.
+ */
+public class EncounterSimulator {
+
+    public static final int MAX_TURNS = 500;
+    private static final int LEAF_SIZE = 256;
+    /** Turns a non-MeteorStorm ability rests after use. */
+    static final int DEFAULT_COOLDOWN = 2;
+
+    private final ForkJoinPool pool;
+
+    public EncounterSimulator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public EncounterSimulator(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+        this.pool = pool;
+    }
+
+    public EncounterStats simulate(Enemy template, HeroProfile hero, int encounters, long seed) {
+        return simulate(template, hero, encounters, new RngService(seed));
+    }
+
+    public EncounterStats simulate(Enemy template, HeroProfile hero, int encounters, RngService rng) {
+        if (template == null || hero == null || rng == null) {
+            throw new IllegalArgumentException("Template, hero and rng must not be null");
+        }
+        if (encounters < 0) {
+            throw new IllegalArgumentException("Encounters must be >= 0");
+        }
+        return pool.invoke(new SimulationTask(template, hero, rng, 0, encounters));
+    }
+
+    /**
+     * Simulates every template of the registry against the same hero.
+     *
+     * @return key → stats, in registry order
+     */
+    public Map<String, EncounterStats> simulateCatalog(EnemyRegistry registry, HeroProfile hero,
+                                                       int encountersPerTemplate, long seed) {
+        RngService rng = new RngService(seed);
+        Map<String, EncounterStats> results = new LinkedHashMap<>();
+        for (String key : registry.listTemplates()) {
+            results.put(key, simulate(registry.getTemplate(key), hero, encountersPerTemplate, rng));
+        }
+        return results;
+    }
+
+    static void runEncounter(Enemy template, HeroProfile hero, RngService rng, int index, EncounterStats stats) {
+        SplittableRandom random = rng.forEncounter(index);
+        EnemyInstance enemy = new EnemyInstance(template);
+
+        int abilityCount = template.abilityCount();
+        int[] readyAt = new int[abilityCount];
+
+        int heroHealth = hero.getHealth();
+        long damageToEnemy = 0;
+        long damageToHero = 0;
+        boolean heroFirst = hero.getSpeed() >= template.getSpeed();
+
+        for (int turn = 1; turn <= MAX_TURNS; turn++) {
+            for (int side = 0; side < 2; side++) {
+                boolean heroActs = (side == 0) == heroFirst;
+                if (heroActs) {
+                    int hit = mitigate(hero.getDamage(), enemy.getEffectiveDefense(), random);
+                    enemy.applyDamage(hit, null);
+                    damageToEnemy += hit;
+                    if (enemy.isDefeated()) {
+                        stats.record(EncounterStats.Outcome.HERO_WIN, turn, damageToEnemy, damageToHero);
+                        return;
+                    }
+                } else {
+                    int raw = enemyAttack(template, enemy, readyAt, turn, random);
+                    int hit = mitigate(raw, hero.getDefense(), random);
+                    heroHealth -= hit;
+                    damageToHero += hit;
+                    if (heroHealth <= 0) {
+                        stats.record(EncounterStats.Outcome.ENEMY_WIN, turn, damageToEnemy, damageToHero);
+                        return;
+                    }
+                }
+            }
+        }
+        stats.record(EncounterStats.Outcome.TIMEOUT, MAX_TURNS, damageToEnemy, damageToHero);
+    }
+
+    private static int enemyAttack(Enemy template, EnemyInstance enemy, int[] readyAt, int turn,
+                                   SplittableRandom random) {
+        int best = -1;
+        for (int i = 0; i < readyAt.length; i++) {
+            Ability ability = template.abilityAt(i);
+            if (ability.getDamage() > 0 && readyAt[i] <= turn
+                    && (best < 0 || ability.getDamage() > template.abilityAt(best).getDamage())) {
+                best = i;
+            }
+        }
+        if (best < 0) {
+            return enemy.getEffectiveDamage();
+        }
+
+        Ability ability = template.abilityAt(best);
+        readyAt[best] = turn + (ability instanceof MeteorStorm
+                ? ((MeteorStorm) ability).getCooldownTurns()
+                : DEFAULT_COOLDOWN);
+
+        int damage = ability.getDamage() + enemy.getEffectiveDamage();
+        if (ability instanceof ShadowStrike && Rolls.critical(random, (ShadowStrike) ability)) {
+            damage *= 2;
+        }
+        return damage;
+    }
+
+    private static int mitigate(int damage, int defense, SplittableRandom random) {
+        long varied = Rolls.vary(random, damage, 10);
+        return (int) (varied * 100 / (100 + Math.max(defense, 0)));
+    }
+
+    private static final class SimulationTask extends RecursiveTask<EncounterStats> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Enemy template;
+        private final HeroProfile hero;
+        private final RngService rng;
+        private final int from;
+        private final int to;
+
+        SimulationTask(Enemy template, HeroProfile hero, RngService rng, int from, int to) {
+            this.template = template;
+            this.hero = hero;
+            this.rng = rng;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected EncounterStats compute() {
+            if (to - from <= LEAF_SIZE) {
+                EncounterStats stats = new EncounterStats();
+                for (int i = from; i < to; i++) {
+                    runEncounter(template, hero, rng, i, stats);
+                }
+                return stats;
+            }
+            int mid = (from + to) >>> 1;
+            SimulationTask left = new SimulationTask(template, hero, rng, from, mid);
+            left.fork();
+            EncounterStats right = new SimulationTask(template, hero, rng, mid, to).compute();
+            return left.join().combine(right);
+        }
+    }
+}
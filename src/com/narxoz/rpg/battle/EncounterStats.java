@@ -0,0 +1,110 @@
+package com.narxoz.rpg.battle;
+
+/**
+ * Aggregated results of many simulated encounters against one template.
+ *
+ * Used as a mutable accumulator while simulating (record, combine) and read
+ * as a report afterwards.
+ */
+public final class EncounterStats {
+
+    private long encounters;
+    private long heroWins;
+    private long enemyWins;
+    private long timeouts;
+
+    private long killTurnsTotal;
+    private int minKillTurns = Integer.MAX_VALUE;
+    private int maxKillTurns;
+
+    private long damageToEnemyTotal;
+    private long damageToHeroTotal;
+
+    void record(Outcome outcome, int turns, long damageToEnemy, long damageToHero) {
+        encounters++;
+        switch (outcome) {
+            case HERO_WIN:
+                heroWins++;
+                killTurnsTotal += turns;
+                minKillTurns = Math.min(minKillTurns, turns);
+                maxKillTurns = Math.max(maxKillTurns, turns);
+                break;
+            case ENEMY_WIN:
+                enemyWins++;
+                break;
+            default:
+                timeouts++;
+                break;
+        }
+        damageToEnemyTotal += damageToEnemy;
+        damageToHeroTotal += damageToHero;
+    }
+
+    EncounterStats combine(EncounterStats other) {
+        encounters += other.encounters;
+        heroWins += other.heroWins;
+        enemyWins += other.enemyWins;
+        timeouts += other.timeouts;
+        killTurnsTotal += other.killTurnsTotal;
+        minKillTurns = Math.min(minKillTurns, other.minKillTurns);
+        maxKillTurns = Math.max(maxKillTurns, other.maxKillTurns);
+        damageToEnemyTotal += other.damageToEnemyTotal;
+        damageToHeroTotal += other.damageToHeroTotal;
+        return this;
+    }
+
+    public long getEncounters() {
+        return encounters;
+    }
+
+    public long getHeroWins() {
+        return heroWins;
+    }
+
+    public long getEnemyWins() {
+        return enemyWins;
+    }
+
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    public double getEnemyWinRate() {
+        return encounters == 0 ? 0 : (double) enemyWins / encounters;
+    }
+
+    /**
+     * @return mean number of turns the hero needed to kill the enemy (wins only)
+     */
+    public double getMeanTimeToKill() {
+        return heroWins == 0 ? 0 : (double) killTurnsTotal / heroWins;
+    }
+
+    public int getMinTimeToKill() {
+        return heroWins == 0 ? 0 : minKillTurns;
+    }
+
+    public int getMaxTimeToKill() {
+        return maxKillTurns;
+    }
+
+    public double getMeanDamageToEnemy() {
+        return encounters == 0 ? 0 : (double) damageToEnemyTotal / encounters;
+    }
+
+    public double getMeanDamageToHero() {
+        return encounters == 0 ? 0 : (double) damageToHeroTotal / encounters;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("encounters=%d, enemy win rate=%.1f%% (timeouts %d), TTK mean=%.1f min=%d max=%d, "
+                        + "dmg to enemy=%.0f, dmg to hero=%.0f",
+                encounters, getEnemyWinRate() * 100, timeouts, getMeanTimeToKill(),
+                getMinTimeToKill(), getMaxTimeToKill(), getMeanDamageToEnemy(), getMeanDamageToHero());
+    }
+
+    enum Outcome {
+        HERO_WIN, ENEMY_WIN, TIMEOUT
+    }
+}
@@ -0,0 +1,137 @@
+package com.narxoz.rpg.battle;
+
+import com.narxoz.rpg.enemy.DragonBoss;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.PhaseTable;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+
+/**
+ * Runtime handle for one enemy in one fight.
+ *
+ * Only the mutable combat state lives here: current HP, the active boss phase
+ * and flat buff modifiers. Everything else (stats, abilities, loot, the phase
+ * table) is read from a shared template that is never cloned, so many
+ * concurrent fights against the same boss cost one small object each.
+ *
+ * The template must not be modified while instances point at it.
+ * Not thread-safe: one instance belongs to one fight.
+ */
+public final class EnemyInstance {
+
+    private final Enemy template;
+    private final PhaseTable phaseTable;
+
+    private int health;
+    private int phaseIndex;
+
+    private int damageBonusPercent;
+    private int defenseBonus;
+    private int speedBonusPercent;
+
+    public EnemyInstance(Enemy template) {
+        if (template == null) {
+            throw new IllegalArgumentException("Template must not be null");
+        }
+        this.template = template;
+        this.phaseTable = template instanceof DragonBoss ? ((DragonBoss) template).getPhaseTable() : null;
+        reset();
+    }
+
+    /**
+     * Creates an instance that shares the registry's template (no clone).
+     */
+    public static EnemyInstance spawn(EnemyRegistry registry, String key) {
+        return new EnemyInstance(registry.getTemplate(key));
+    }
+
+    /**
+     * Restores full HP, the starting phase and clears all buffs.
+     */
+    public void reset() {
+        health = template.getHealth();
+        phaseIndex = phaseTable != null ? phaseTable.indexFor(health) : -1;
+        damageBonusPercent = 0;
+        defenseBonus = 0;
+        speedBonusPercent = 0;
+    }
+
+    public Enemy getTemplate() {
+        return template;
+    }
+
+    /**
+     * Applies damage and reports boss phase transitions.
+     *
+     * @param listener may be null
+     * @return number of phases crossed by this hit
+     */
+    public int applyDamage(int amount, PhaseListener listener) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Damage must be >= 0");
+        }
+        health = (int) Math.max((long) health - amount, Integer.MIN_VALUE);
+        if (phaseTable == null) {
+            return 0;
+        }
+        int previous = phaseIndex;
+        phaseIndex = PhaseTracker.advance(phaseTable, phaseIndex, health, listener);
+        return phaseIndex - previous;
+    }
+
+    /**
+     * Restores HP, capped at the template's maximum. The phase does not go back.
+     */
+    public void heal(int amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Heal must be >= 0");
+        }
+        health = (int) Math.min((long) health + amount, template.getHealth());
+    }
+
+    public int getHealth() {
+        return health;
+    }
+
+    public int getMaxHealth() {
+        return template.getHealth();
+    }
+
+    public boolean isDefeated() {
+        return health <= 0;
+    }
+
+    /**
+     * @return the active boss phase number, or 0 for enemies without phases
+     */
+    public int getCurrentPhase() {
+        return phaseIndex < 0 ? 0 : phaseTable.phaseAt(phaseIndex);
+    }
+
+    // ------------------------------------------------------------
+    // Buffs
+    // ------------------------------------------------------------
+
+    public void setDamageBonusPercent(int percent) {
+        this.damageBonusPercent = percent;
+    }
+
+    public void setDefenseBonus(int bonus) {
+        this.defenseBonus = bonus;
+    }
+
+    public void setSpeedBonusPercent(int percent) {
+        this.speedBonusPercent = percent;
+    }
+
+    public int getEffectiveDamage() {
+        return Math.max(0, template.getDamage() * (100 + damageBonusPercent) / 100);
+    }
+
+    public int getEffectiveDefense() {
+        return Math.max(0, template.getDefense() + defenseBonus);
+    }
+
+    public int getEffectiveSpeed() {
+        return Math.max(0, template.getSpeed() * (100 + speedBonusPercent) / 100);
+    }
+}
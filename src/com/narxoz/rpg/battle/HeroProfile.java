@@ -0,0 +1,52 @@
+package com.narxoz.rpg.battle;
+
+/**
+ * The hero side of a simulated encounter: a plain, immutable stat block.
+ */
+public final class HeroProfile {
+
+    private final String name;
+    private final int health;
+    private final int damage;
+    private final int defense;
+    private final int speed;
+
+    public HeroProfile(String name, int health, int damage, int defense, int speed) {
+        if (health <= 0) {
+            throw new IllegalArgumentException("Health must be > 0");
+        }
+        if (damage < 0 || defense < 0 || speed < 0) {
+            throw new IllegalArgumentException("Stats cannot be negative");
+        }
+        this.name = name;
+        this.health = health;
+        this.damage = damage;
+        this.defense = defense;
+        this.speed = speed;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getHealth() {
+        return health;
+    }
+
+    public int getDamage() {
+        return damage;
+    }
+
+    public int getDefense() {
+        return defense;
+    }
+
+    public int getSpeed() {
+        return speed;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (HP " + health + ", DMG " + damage + ", DEF " + defense + ", SPD " + speed + ")";
+    }
+}
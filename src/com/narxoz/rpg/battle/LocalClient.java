@@ -0,0 +1,145 @@
+package com.narxoz.rpg.battle;
+
+import com.narxoz.rpg.builder.BasicEnemyBuilder;
+import com.narxoz.rpg.factory.ShadowComponentFactory;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * In-process stand-in for real players, for load-testing an {@link EncounterHost}.
+ *
+ * Every connected session gets one attack per think time, pushed by a
+ * single ticker thread into the session's input queue; in between, the
+ * encounter threads sit idle waiting for input, like real players.
+ *
+ * Load test:
+ *   java com.narxoz.rpg.battle.LocalClient [encounters] [thinkMillis]
+ */
+public final class LocalClient implements AutoCloseable {
+
+    private final Integer attack;
+    private final ScheduledExecutorService ticker;
+    private final Queue<Session> sessions = new ConcurrentLinkedQueue<>();
+
+    public LocalClient(Duration thinkTime, int attackDamage) {
+        if (thinkTime == null || thinkTime.isNegative() || thinkTime.isZero()) {
+            throw new IllegalArgumentException("Think time must be > 0");
+        }
+        this.attack = attackDamage;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "local-client");
+            t.setDaemon(true);
+            return t;
+        });
+        long nanos = thinkTime.toNanos();
+        ticker.scheduleAtFixedRate(this::tick, nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return a new player session to pass to EncounterHost.submit
+     */
+    public PlayerInput connect() {
+        Session session = new Session();
+        sessions.add(session);
+        return session;
+    }
+
+    /**
+     * @return number of sessions that have not been disconnected yet
+     */
+    public int connected() {
+        return sessions.size();
+    }
+
+    private void tick() {
+        for (Iterator<Session> it = sessions.iterator(); it.hasNext(); ) {
+            Session session = it.next();
+            if (session.disconnected) {
+                it.remove();
+            } else {
+                session.actions.offer(attack);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    private static final class Session implements PlayerInput {
+
+        final BlockingQueue<Integer> actions = new ArrayBlockingQueue<>(1);
+        volatile boolean disconnected;
+
+        @Override
+        public int awaitAttack(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+            Integer action = actions.poll(timeout, unit);
+            if (action == null) {
+                throw new TimeoutException();
+            }
+            return action;
+        }
+
+        @Override
+        public void disconnect() {
+            disconnected = true;
+        }
+    }
+
+    public static void main(String[] args) {
+        int encounters = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        long thinkMillis = args.length > 1 ? Long.parseLong(args[1]) : 200;
+
+        ShadowComponentFactory shadow = new ShadowComponentFactory();
+        EnemyRegistry registry = new EnemyRegistry();
+        registry.registerTemplate("goblin", new BasicEnemyBuilder()
+                .setName("Goblin")
+                .setHealth(300)
+                .setDamage(18)
+                .setDefense(6)
+                .setSpeed(40)
+                .addAbilities(shadow.createAbilities())
+                .setLootTable(shadow.createLootTable())
+                .build());
+
+        try (EncounterHost host = new EncounterHost(registry, encounters, Duration.ofSeconds(60));
+             LocalClient client = new LocalClient(Duration.ofMillis(thinkMillis), 60)) {
+            System.out.println("Threads: " + (host.isVirtual() ? "virtual" : "platform (no virtual threads on this JDK)"));
+
+            long start = System.nanoTime();
+            List<CompletableFuture<EncounterResult>> results = new ArrayList<>(encounters);
+            for (int i = 0; i < encounters; i++) {
+                try {
+                    results.add(host.submit("goblin", client.connect()));
+                } catch (RejectedExecutionException e) {
+                    break;
+                }
+            }
+            System.out.println("Admitted " + results.size() + " encounters, peak active " + host.peakActive());
+
+            Map<EncounterResult.Outcome, Integer> outcomes = new EnumMap<>(EncounterResult.Outcome.class);
+            for (CompletableFuture<EncounterResult> result : results) {
+                outcomes.merge(result.join().getOutcome(), 1, Integer::sum);
+            }
+            System.out.println("Outcomes: " + outcomes + ", rejected " + host.rejected()
+                    + ", wall time " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.narxoz.rpg.battle;
+
+/**
+ * Receives boss phase transitions from a {@link PhaseTracker}.
+ * One big hit that crosses several thresholds produces one call per phase, in order.
+ */
+@FunctionalInterface
+public interface PhaseListener {
+
+    /**
+     * @param previousPhase phase number before the transition (0 = no phase yet)
+     * @param newPhase      phase number just entered
+     * @param health        boss HP after the hit that caused the transition
+     */
+    void onPhaseChange(int previousPhase, int newPhase, int health);
+}
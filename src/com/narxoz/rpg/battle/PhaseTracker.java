@@ -0,0 +1,90 @@
+package com.narxoz.rpg.battle;
+
+import com.narxoz.rpg.enemy.DragonBoss;
+import com.narxoz.rpg.enemy.PhaseTable;
+
+/**
+ * Tracks a boss's HP and active phase as damage comes in.
+ *
+ * Each hit costs one binary search over the compiled PhaseTable, plus one
+ * listener call per phase crossed. Nothing is allocated per hit.
+ * Not thread-safe: one tracker per fight.
+ */
+public final class PhaseTracker {
+
+    private final PhaseTable table;
+    private int health;
+    private int index;
+
+    public PhaseTracker(DragonBoss boss) {
+        this(boss.getPhaseTable(), boss.getHealth());
+    }
+
+    public PhaseTracker(PhaseTable table, int startingHealth) {
+        if (table == null) {
+            throw new IllegalArgumentException("Phase table must not be null");
+        }
+        this.table = table;
+        reset(startingHealth);
+    }
+
+    /**
+     * Restores HP without reporting transitions, e.g. when recycling a fight.
+     */
+    public void reset(int health) {
+        this.health = health;
+        this.index = table.indexFor(health);
+    }
+
+    /**
+     * Applies one damage event and reports every phase it crosses.
+     *
+     * @param listener may be null if only the count is needed
+     * @return number of phases crossed by this hit
+     */
+    public int applyDamage(int amount, PhaseListener listener) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Damage must be >= 0");
+        }
+        health = (int) Math.max((long) health - amount, Integer.MIN_VALUE);
+
+        int previous = index;
+        index = advance(table, index, health, listener);
+        return index - previous;
+    }
+
+    /**
+     * Moves a phase index forward to match {@code health}, reporting each
+     * crossed phase. Phases never go backwards; healing keeps the current phase.
+     *
+     * @return the new phase index
+     */
+    static int advance(PhaseTable table, int index, int health, PhaseListener listener) {
+        int newIndex = table.indexFor(health);
+        if (newIndex <= index) {
+            return index;
+        }
+        if (listener != null) {
+            for (int i = index + 1; i <= newIndex; i++) {
+                int previous = i == 0 ? 0 : table.phaseAt(i - 1);
+                listener.onPhaseChange(previous, table.phaseAt(i), health);
+            }
+        }
+        return newIndex;
+    }
+
+    public int getHealth() {
+        return health;
+    }
+
+    /**
+     * @return the active phase number, or 0 if no threshold has been reached
+     */
+    public int getCurrentPhase() {
+        return index < 0 ? 0 : table.phaseAt(index);
+    }
+
+    public boolean isDefeated() {
+        return health <= 0;
+    }
+}
@@ -0,0 +1,26 @@
+package com.narxoz.rpg.battle;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Source of player actions for one hosted encounter (see {@link EncounterHost}).
+ * Implementations typically block until the player acts.
+ */
+public interface PlayerInput {
+
+    /**
+     * Waits for the player's next attack.
+     *
+     * @return damage of the attack, or a negative value if the player flees
+     * @throws TimeoutException if the player did not act within the timeout
+     */
+    int awaitAttack(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException;
+
+    /**
+     * Called once when the encounter ends, however it ends, or when it is
+     * not admitted at all.
+     */
+    default void disconnect() {
+    }
+}
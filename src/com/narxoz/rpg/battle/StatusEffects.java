@@ -0,0 +1,350 @@
+package com.narxoz.rpg.battle;
+
+import com.narxoz.rpg.combat.AbilityCatalog;
+import com.narxoz.rpg.combat.BattleCry;
+import com.narxoz.rpg.combat.FireShield;
+import com.narxoz.rpg.combat.FrostBreath;
+import com.narxoz.rpg.combat.IceShield;
+import com.narxoz.rpg.combat.Vanish;
+
+import java.util.Arrays;
+
+/**
+ * Buffs and debuffs for many combatants, stored by slot (e.g. a
+ * PopulationStore row or an index into an EnemyInstance array).
+ *
+ * Layout:
+ * - mask[slot]: bitset of the active effects (bit = effect id)
+ * - magnitude / expiry: packed arrays, EFFECT_COUNT entries per slot
+ * - a bitset over slots marks which slots have any effect, so tick()
+ *   only visits affected combatants
+ * - effective damage / defense / speed / evade are kept per slot and
+ *   recomputed only when that slot's effects change
+ * Nothing allocates after construction (except growing past capacity).
+ *
+ * Effects and where they come from:
+ * - SLOW          FrostBreath.slowPercent, SLOW_TURNS turns   (-speed %)
+ * - EVADE         Vanish.evadePercent, its duration            (evade chance %)
+ * - ATTACK_BOOST  BattleCry.attackBoostPercent, its duration   (+damage %)
+ * - DEFENSE_BOOST Fire/IceShield.defenseBoost, their duration  (+defense, flat)
+ *
+ * Stacking (one entry per slot and effect; the expiry is always the later one):
+ * - SLOW, EVADE: strongest magnitude wins
+ * - ATTACK_BOOST: re-applying refreshes the duration with the new magnitude
+ * - DEFENSE_BOOST: magnitudes add up, capped at MAX_DEFENSE_BOOST
+ *
+ * The stat formulas match EnemyInstance (see applyTo).
+ * Not thread-safe.
+ */
+public class StatusEffects {
+
+    public static final int SLOW = 0;
+    public static final int EVADE = 1;
+    public static final int ATTACK_BOOST = 2;
+    public static final int DEFENSE_BOOST = 3;
+    public static final int EFFECT_COUNT = 4;
+
+    /** FrostBreath has no duration of its own. */
+    public static final int SLOW_TURNS = 2;
+    public static final int MAX_DEFENSE_BOOST = 100;
+
+    private static final int NO_EFFECT = -1;
+    private static final int[] ABILITY_EFFECT = new int[AbilityCatalog.SIZE];
+    private static final int[] ABILITY_MAGNITUDE = new int[AbilityCatalog.SIZE];
+    private static final int[] ABILITY_TURNS = new int[AbilityCatalog.SIZE];
+
+    static {
+        Arrays.fill(ABILITY_EFFECT, NO_EFFECT);
+        effect(AbilityCatalog.FROST_BREATH, SLOW,
+                ((FrostBreath) AbilityCatalog.get(AbilityCatalog.FROST_BREATH)).getSlowPercent(), SLOW_TURNS);
+        effect(AbilityCatalog.VANISH, EVADE,
+                ((Vanish) AbilityCatalog.get(AbilityCatalog.VANISH)).getEvadePercent(),
+                AbilityCatalog.durationOf(AbilityCatalog.VANISH));
+        effect(AbilityCatalog.BATTLE_CRY, ATTACK_BOOST,
+                ((BattleCry) AbilityCatalog.get(AbilityCatalog.BATTLE_CRY)).getAttackBoostPercent(),
+                AbilityCatalog.durationOf(AbilityCatalog.BATTLE_CRY));
+        effect(AbilityCatalog.FIRE_SHIELD, DEFENSE_BOOST,
+                ((FireShield) AbilityCatalog.get(AbilityCatalog.FIRE_SHIELD)).getDefenseBoost(),
+                AbilityCatalog.durationOf(AbilityCatalog.FIRE_SHIELD));
+        effect(AbilityCatalog.ICE_SHIELD, DEFENSE_BOOST,
+                ((IceShield) AbilityCatalog.get(AbilityCatalog.ICE_SHIELD)).getDefenseBoost(),
+                AbilityCatalog.durationOf(AbilityCatalog.ICE_SHIELD));
+    }
+
+    private static void effect(int abilityId, int effect, int magnitude, int turns) {
+        ABILITY_EFFECT[abilityId] = effect;
+        ABILITY_MAGNITUDE[abilityId] = magnitude;
+        ABILITY_TURNS[abilityId] = turns;
+    }
+
+    private int capacity;
+    private int[] mask;
+    private long[] affected;
+    private int[] magnitude;
+    private int[] expiry;
+
+    private int[] baseDamage;
+    private int[] baseDefense;
+    private int[] baseSpeed;
+    private int[] damage;
+    private int[] defense;
+    private int[] speed;
+
+    private int now;
+
+    public StatusEffects(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be > 0");
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Sets the unmodified stats of a slot and recomputes its effective stats.
+     */
+    public void setBaseStats(int slot, int damage, int defense, int speed) {
+        if (slot < 0) {
+            throw new IllegalArgumentException("Slot must be >= 0");
+        }
+        if (slot >= capacity) {
+            allocate(Math.max(capacity * 2, slot + 1));
+        }
+        baseDamage[slot] = damage;
+        baseDefense[slot] = defense;
+        baseSpeed[slot] = speed;
+        recompute(slot);
+    }
+
+    /**
+     * Applies an effect for {@code turns} ticks, merging it with an active
+     * effect of the same kind by the stacking rules.
+     */
+    public void apply(int slot, int effect, int amount, int turns) {
+        checkSlot(slot);
+        checkEffect(effect);
+        if (turns < 1) {
+            throw new IllegalArgumentException("Turns must be >= 1");
+        }
+        int i = slot * EFFECT_COUNT + effect;
+        int bit = 1 << effect;
+        boolean active = (mask[slot] & bit) != 0;
+
+        int merged;
+        if (!active) {
+            merged = amount;
+        } else if (effect == DEFENSE_BOOST) {
+            merged = magnitude[i] + amount;
+        } else if (effect == ATTACK_BOOST) {
+            merged = amount;
+        } else {
+            merged = Math.max(magnitude[i], amount);
+        }
+        if (effect == DEFENSE_BOOST) {
+            merged = Math.min(merged, MAX_DEFENSE_BOOST);
+        }
+
+        magnitude[i] = merged;
+        expiry[i] = active ? Math.max(expiry[i], now + turns) : now + turns;
+        mask[slot] |= bit;
+        affected[slot >>> 6] |= 1L << slot;
+        recompute(slot);
+    }
+
+    /**
+     * Applies the status effect of a catalog ability (see the class doc).
+     * Buffs go on the caster's slot, FrostBreath's slow on the target's.
+     *
+     * @return false if the ability has no status effect
+     */
+    public boolean applyAbility(int slot, int abilityId) {
+        if (abilityId < 0 || abilityId >= AbilityCatalog.SIZE) {
+            throw new IllegalArgumentException("Unknown ability id: " + abilityId);
+        }
+        int effect = ABILITY_EFFECT[abilityId];
+        if (effect == NO_EFFECT) {
+            return false;
+        }
+        apply(slot, effect, ABILITY_MAGNITUDE[abilityId], ABILITY_TURNS[abilityId]);
+        return true;
+    }
+
+    public void remove(int slot, int effect) {
+        checkSlot(slot);
+        checkEffect(effect);
+        if ((mask[slot] & (1 << effect)) != 0) {
+            clearEffect(slot, effect);
+            recompute(slot);
+        }
+    }
+
+    /**
+     * Advances one turn and drops expired effects. Only slots with active
+     * effects are visited.
+     *
+     * @return number of effects that expired
+     */
+    public int tick() {
+        now++;
+        int expired = 0;
+        for (int w = 0; w < affected.length; w++) {
+            long word = affected[w];
+            while (word != 0) {
+                int slot = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+
+                int before = Integer.bitCount(mask[slot]);
+                int bits = mask[slot];
+                while (bits != 0) {
+                    int effect = Integer.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    if (expiry[slot * EFFECT_COUNT + effect] <= now) {
+                        clearEffect(slot, effect);
+                    }
+                }
+                int removed = before - Integer.bitCount(mask[slot]);
+                if (removed > 0) {
+                    expired += removed;
+                    recompute(slot);
+                }
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Copies this slot's modifiers onto an EnemyInstance.
+     */
+    public void applyTo(int slot, EnemyInstance enemy) {
+        checkSlot(slot);
+        int base = slot * EFFECT_COUNT;
+        enemy.setDamageBonusPercent(magnitude[base + ATTACK_BOOST]);
+        enemy.setDefenseBonus(magnitude[base + DEFENSE_BOOST]);
+        enemy.setSpeedBonusPercent(-magnitude[base + SLOW]);
+    }
+
+    public boolean has(int slot, int effect) {
+        checkSlot(slot);
+        checkEffect(effect);
+        return (mask[slot] & (1 << effect)) != 0;
+    }
+
+    /**
+     * @return bitset of active effects (bit n = effect n)
+     */
+    public int activeMask(int slot) {
+        checkSlot(slot);
+        return mask[slot];
+    }
+
+    /**
+     * @return the merged magnitude of an effect, 0 if inactive
+     */
+    public int magnitudeOf(int slot, int effect) {
+        checkSlot(slot);
+        checkEffect(effect);
+        return magnitude[slot * EFFECT_COUNT + effect];
+    }
+
+    /**
+     * @return turns left for an effect, 0 if inactive
+     */
+    public int remainingTurns(int slot, int effect) {
+        checkSlot(slot);
+        checkEffect(effect);
+        return has(slot, effect) ? expiry[slot * EFFECT_COUNT + effect] - now : 0;
+    }
+
+    public int getEffectiveDamage(int slot) {
+        checkSlot(slot);
+        return damage[slot];
+    }
+
+    public int getEffectiveDefense(int slot) {
+        checkSlot(slot);
+        return defense[slot];
+    }
+
+    public int getEffectiveSpeed(int slot) {
+        checkSlot(slot);
+        return speed[slot];
+    }
+
+    /**
+     * @return chance in percent that an attack on this slot misses
+     */
+    public int getEvadePercent(int slot) {
+        checkSlot(slot);
+        return magnitude[slot * EFFECT_COUNT + EVADE];
+    }
+
+    public int now() {
+        return now;
+    }
+
+    /**
+     * Removes every effect; base stats are kept.
+     */
+    public void clear() {
+        for (int w = 0; w < affected.length; w++) {
+            long word = affected[w];
+            while (word != 0) {
+                int slot = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                mask[slot] = 0;
+                Arrays.fill(magnitude, slot * EFFECT_COUNT, (slot + 1) * EFFECT_COUNT, 0);
+                recompute(slot);
+            }
+        }
+        Arrays.fill(affected, 0);
+    }
+
+    private void clearEffect(int slot, int effect) {
+        mask[slot] &= ~(1 << effect);
+        magnitude[slot * EFFECT_COUNT + effect] = 0;
+        if (mask[slot] == 0) {
+            affected[slot >>> 6] &= ~(1L << slot);
+        }
+    }
+
+    /**
+     * Inactive effects have magnitude 0, so no mask checks are needed here.
+     */
+    private void recompute(int slot) {
+        int base = slot * EFFECT_COUNT;
+        damage[slot] = Math.max(0, baseDamage[slot] * (100 + magnitude[base + ATTACK_BOOST]) / 100);
+        defense[slot] = Math.max(0, baseDefense[slot] + magnitude[base + DEFENSE_BOOST]);
+        speed[slot] = Math.max(0, baseSpeed[slot] * (100 - magnitude[base + SLOW]) / 100);
+    }
+
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= capacity) {
+            throw new IndexOutOfBoundsException("Slot " + slot + " out of range [0, " + capacity + ")");
+        }
+    }
+
+    private static void checkEffect(int effect) {
+        if (effect < 0 || effect >= EFFECT_COUNT) {
+            throw new IllegalArgumentException("Unknown effect: " + effect);
+        }
+    }
+
+    private void allocate(int newCapacity) {
+        capacity = newCapacity;
+        mask = grow(mask, newCapacity);
+        affected = affected == null
+                ? new long[(newCapacity + 63) >>> 6]
+                : Arrays.copyOf(affected, (newCapacity + 63) >>> 6);
+        magnitude = grow(magnitude, newCapacity * EFFECT_COUNT);
+        expiry = grow(expiry, newCapacity * EFFECT_COUNT);
+        baseDamage = grow(baseDamage, newCapacity);
+        baseDefense = grow(baseDefense, newCapacity);
+        baseSpeed = grow(baseSpeed, newCapacity);
+        damage = grow(damage, newCapacity);
+        defense = grow(defense, newCapacity);
+        speed = grow(speed, newCapacity);
+    }
+
+    private static int[] grow(int[] array, int length) {
+        return array == null ? new int[length] : Arrays.copyOf(array, length);
+    }
+}
@@ -0,0 +1,14 @@
+package com.narxoz.rpg.battle;
+
+/**
+ * Receives expired timers from a {@link TimingWheel}.
+ */
+@FunctionalInterface
+public interface TimerListener {
+
+    /**
+     * @param target the int passed to schedule (e.g. an enemy slot or row)
+     * @param kind   the int passed to schedule (e.g. which cooldown or effect)
+     */
+    void onExpire(int target, int kind);
+}
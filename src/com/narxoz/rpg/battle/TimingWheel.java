@@ -0,0 +1,269 @@
+package com.narxoz.rpg.battle;
+
+import java.util.Arrays;
+
+/**
+ * Hierarchical timing wheel for cooldowns and timed effects
+ * (MeteorStorm.getCooldownTurns, FireShield/IceShield/Vanish/BattleCry.getDurationTurns).
+ *
+ * Time is measured in ticks (one tick = one turn in the battle loop).
+ * There are LEVELS wheels of SLOTS slots each; a slot on level n spans
+ * SLOTS^n ticks. A timer sits in the lowest level that can still tell its
+ * deadline apart from "now" and is moved one level down when its upper slot
+ * comes due. Every timer is moved at most LEVELS - 1 times, so advance()
+ * costs O(expired timers) amortised instead of O(all timers).
+ * Delays beyond SLOTS^LEVELS ticks are parked in the top level and
+ * re-filed until they come into range.
+ *
+ * Storage:
+ * Timers are pooled as fixed-size records in one int[] (no object per
+ * timer). Each slot is a plain array of timer handles, so draining a slot
+ * is a sequential scan rather than a pointer chase. Cancel only retires the
+ * record; its stale handle is skipped when the slot drains. schedule and
+ * cancel are O(1) and allocation-free once the pool and slots have grown
+ * to their working size.
+ *
+ * Handles carry a generation, so cancelling a timer that has already fired
+ * (and whose record was reused) is a no-op.
+ *
+ * Not thread-safe; use one wheel per battle loop.
+ */
+public class TimingWheel {
+
+    public static final int SLOT_BITS = 6;
+    public static final int SLOTS = 1 << SLOT_BITS;
+    public static final int LEVELS = 4;
+
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int NONE = -1;
+
+    /** Record layout; padded to 8 ints so a record never straddles a cache line. */
+    private static final int STRIDE = 8;
+    private static final int DEADLINE_LO = 0;
+    private static final int DEADLINE_HI = 1;
+    private static final int TARGET = 2;
+    private static final int KIND = 3;
+    private static final int GENERATION = 4;
+    /** 1 while pending; otherwise the next free record (or NONE), stored as -(next + 2). */
+    private static final int STATE = 5;
+    private static final int PENDING = 1;
+
+    private final long[][] slots = new long[LEVELS * SLOTS][];
+    private final int[] slotSizes = new int[LEVELS * SLOTS];
+
+    private int[] timers;
+    private int freeHead = NONE;
+    private int used;
+    private int size;
+    private long now;
+
+    public TimingWheel() {
+        this(1024);
+    }
+
+    public TimingWheel(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be > 0");
+        }
+        timers = new int[initialCapacity * STRIDE];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new long[8];
+        }
+    }
+
+    /**
+     * Schedules a timer that fires on the advance that reaches now() + delay.
+     *
+     * @param delay ticks until expiry, at least 1
+     * @return a handle for cancel
+     */
+    public long schedule(int delay, int target, int kind) {
+        if (delay < 1) {
+            throw new IllegalArgumentException("Delay must be >= 1");
+        }
+        int id = allocate();
+        int base = id * STRIDE;
+        long due = now + delay;
+        timers[base + DEADLINE_LO] = (int) due;
+        timers[base + DEADLINE_HI] = (int) (due >>> 32);
+        timers[base + TARGET] = target;
+        timers[base + KIND] = kind;
+        timers[base + STATE] = PENDING;
+        long handle = ((long) timers[base + GENERATION] << 32) | id;
+        file(handle, due);
+        size++;
+        return handle;
+    }
+
+    /**
+     * @return true if the timer was pending and is now cancelled;
+     *         false if it already fired or was cancelled before
+     */
+    public boolean cancel(long handle) {
+        int id = (int) handle;
+        if (!isPending(handle)) {
+            return false;
+        }
+        release(id);
+        size--;
+        return true;
+    }
+
+    /**
+     * Advances one tick and fires every timer due at the new time.
+     * The listener may schedule and cancel timers.
+     *
+     * @return number of timers fired
+     */
+    public int advance(TimerListener listener) {
+        now++;
+        if (size == 0) {
+            return 0;
+        }
+        for (int level = 1; level < LEVELS; level++) {
+            if ((now & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                break;
+            }
+            cascade(level * SLOTS + (int) ((now >>> (SLOT_BITS * level)) & SLOT_MASK));
+        }
+
+        // New timers never land in the slot being drained (delay >= 1).
+        int slot = (int) (now & SLOT_MASK);
+        long[] handles = slots[slot];
+        int count = slotSizes[slot];
+        int fired = 0;
+        for (int i = 0; i < count; i++) {
+            long handle = handles[i];
+            if (!isPending(handle)) {
+                continue;
+            }
+            int id = (int) handle;
+            int base = id * STRIDE;
+            int t = timers[base + TARGET];
+            int k = timers[base + KIND];
+            release(id);
+            size--;
+            fired++;
+            listener.onExpire(t, k);
+        }
+        slotSizes[slot] = 0;
+        return fired;
+    }
+
+    /**
+     * Advances {@code ticks} ticks.
+     *
+     * @return total number of timers fired
+     */
+    public int advance(int ticks, TimerListener listener) {
+        int fired = 0;
+        for (int i = 0; i < ticks; i++) {
+            fired += advance(listener);
+        }
+        return fired;
+    }
+
+    /**
+     * @return ticks left until the timer fires, or -1 if it is no longer pending
+     */
+    public long remaining(long handle) {
+        if (!isPending(handle)) {
+            return -1;
+        }
+        return deadline((int) handle) - now;
+    }
+
+    public long now() {
+        return now;
+    }
+
+    /**
+     * @return number of pending timers
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Drops every pending timer; handles issued so far become invalid.
+     */
+    public void clear() {
+        Arrays.fill(slotSizes, 0);
+        for (int id = 0; id < used; id++) {
+            if (timers[id * STRIDE + STATE] == PENDING) {
+                release(id);
+            }
+        }
+        size = 0;
+    }
+
+    private void cascade(int slot) {
+        long[] handles = slots[slot];
+        int count = slotSizes[slot];
+        slotSizes[slot] = 0;
+        for (int i = 0; i < count; i++) {
+            long handle = handles[i];
+            if (isPending(handle)) {
+                file(handle, deadline((int) handle));
+            }
+        }
+    }
+
+    /**
+     * Appends the handle to the lowest level whose slot index differs from
+     * now's by less than SLOTS (clamped on the top level). Never picks the
+     * slot currently being drained or cascaded.
+     */
+    private void file(long handle, long due) {
+        int level = 0;
+        long distance = due - now;
+        while (level < LEVELS - 1 && distance >= SLOTS) {
+            level++;
+            distance = (due >>> (SLOT_BITS * level)) - (now >>> (SLOT_BITS * level));
+        }
+        long index = distance >= SLOTS
+                ? (now >>> (SLOT_BITS * level)) + SLOT_MASK
+                : due >>> (SLOT_BITS * level);
+        int slot = level * SLOTS + (int) (index & SLOT_MASK);
+
+        int count = slotSizes[slot];
+        if (count == slots[slot].length) {
+            slots[slot] = Arrays.copyOf(slots[slot], count * 2);
+        }
+        slots[slot][count] = handle;
+        slotSizes[slot] = count + 1;
+    }
+
+    private boolean isPending(long handle) {
+        int id = (int) handle;
+        if (id < 0 || id >= used) {
+            return false;
+        }
+        int base = id * STRIDE;
+        return timers[base + STATE] == PENDING && timers[base + GENERATION] == (int) (handle >>> 32);
+    }
+
+    private long deadline(int id) {
+        int base = id * STRIDE;
+        return ((long) timers[base + DEADLINE_HI] << 32) | (timers[base + DEADLINE_LO] & 0xFFFFFFFFL);
+    }
+
+    private int allocate() {
+        if (freeHead != NONE) {
+            int id = freeHead;
+            freeHead = -timers[id * STRIDE + STATE] - 2;
+            return id;
+        }
+        if (used * STRIDE == timers.length) {
+            timers = Arrays.copyOf(timers, timers.length * 2);
+        }
+        return used++;
+    }
+
+    private void release(int id) {
+        int base = id * STRIDE;
+        timers[base + GENERATION]++;
+        timers[base + STATE] = -(freeHead + 2);
+        freeHead = id;
+    }
+}
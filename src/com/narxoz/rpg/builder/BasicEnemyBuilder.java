@@ -4,6 +4,7 @@ import com.narxoz.rpg.combat.Ability;
 import com.narxoz.rpg.enemy.Enemy;
 import com.narxoz.rpg.enemy.Goblin;
 import com.narxoz.rpg.loot.LootTable;
+import com.narxoz.rpg.prototype.CloneSupport;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -62,7 +63,7 @@ public class BasicEnemyBuilder implements EnemyBuilder {
     @Override
     public EnemyBuilder addAbility(Ability ability) {
         if (ability != null) {
-            abilities.add(ability.clone());
+            abilities.add(CloneSupport.copyOf(ability));
         }
         return this;
     }
@@ -14,6 +14,9 @@ package com.narxoz.rpg.combat;
  * its abilities must also be cloned. Otherwise, two enemies
  * will share the same ability objects — and modifying one
  * will affect the other. This is a critical requirement.
+ * The exception is an ability that also implements
+ * {@link com.narxoz.rpg.prototype.Immutable}: nothing can modify it,
+ * so clones share it instead of copying.
  *
  * TODO: Define what all abilities have in common.
  * Think about:
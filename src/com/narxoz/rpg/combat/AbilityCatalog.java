@@ -0,0 +1,140 @@
+package com.narxoz.rpg.combat;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Catalog of the built-in ability definitions.
+ *
+ * Every definition has a stable int id (the constants below; never
+ * renumber them) and one canonical, immutable flyweight instance. The
+ * numbers most combat code needs — damage, cooldown, duration — are kept
+ * in primitive tables indexed by id, so hot loops and compact enemy
+ * representations can carry an int[] of ids instead of a List of objects.
+ *
+ * cooldownOf is 0 for abilities without a cooldown; durationOf is 0 for
+ * abilities without a timed effect.
+ */
+public final class AbilityCatalog {
+
+    public static final int FLAME_BREATH = 0;
+    public static final int FIRE_SHIELD = 1;
+    public static final int METEOR_STORM = 2;
+    public static final int FROST_BREATH = 3;
+    public static final int ICE_SHIELD = 4;
+    public static final int SHADOW_STRIKE = 5;
+    public static final int VANISH = 6;
+    public static final int BATTLE_CRY = 7;
+
+    public static final int SIZE = 8;
+
+    private static final Ability[] FLYWEIGHTS = new Ability[SIZE];
+    private static final int[] DAMAGE = new int[SIZE];
+    private static final int[] COOLDOWN = new int[SIZE];
+    private static final int[] DURATION = new int[SIZE];
+    private static final Map<Class<?>, Integer> IDS = new IdentityHashMap<>();
+
+    static {
+        define(FLAME_BREATH, new FlameBreath(), 0, 0);
+        define(FIRE_SHIELD, new FireShield(), 0, new FireShield().getDurationTurns());
+        define(METEOR_STORM, new MeteorStorm(), new MeteorStorm().getCooldownTurns(), 0);
+        define(FROST_BREATH, new FrostBreath(), 0, 0);
+        define(ICE_SHIELD, new IceShield(), 0, new IceShield().getDurationTurns());
+        define(SHADOW_STRIKE, new ShadowStrike(), 0, 0);
+        define(VANISH, new Vanish(), 0, new Vanish().getDurationTurns());
+        define(BATTLE_CRY, new BattleCry(), 0, new BattleCry().getDurationTurns());
+    }
+
+    private AbilityCatalog() {
+    }
+
+    private static void define(int id, Ability flyweight, int cooldown, int duration) {
+        FLYWEIGHTS[id] = flyweight;
+        DAMAGE[id] = flyweight.getDamage();
+        COOLDOWN[id] = cooldown;
+        DURATION[id] = duration;
+        IDS.put(flyweight.getClass(), id);
+    }
+
+    /**
+     * @return the canonical instance for {@code id}
+     */
+    public static Ability get(int id) {
+        checkId(id);
+        return FLYWEIGHTS[id];
+    }
+
+    /**
+     * @return the catalog id of the ability's definition, or -1 if it is not a built-in ability
+     */
+    public static int idOf(Ability ability) {
+        if (ability == null) {
+            return -1;
+        }
+        Integer id = IDS.get(ability.getClass());
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * @return the canonical instance of the ability's definition, or the
+     *         ability itself if it is not a built-in ability
+     */
+    public static Ability canonical(Ability ability) {
+        int id = idOf(ability);
+        return id < 0 ? ability : FLYWEIGHTS[id];
+    }
+
+    public static int damageOf(int id) {
+        checkId(id);
+        return DAMAGE[id];
+    }
+
+    public static int cooldownOf(int id) {
+        checkId(id);
+        return COOLDOWN[id];
+    }
+
+    public static int durationOf(int id) {
+        checkId(id);
+        return DURATION[id];
+    }
+
+    public static String nameOf(int id) {
+        checkId(id);
+        return FLYWEIGHTS[id].getName();
+    }
+
+    /**
+     * @return the catalog ids of {@code abilities}, in order
+     * @throws IllegalArgumentException if one of them is not a built-in ability
+     */
+    public static int[] idsOf(List<Ability> abilities) {
+        int[] ids = new int[abilities.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = idOf(abilities.get(i));
+            if (ids[i] < 0) {
+                throw new IllegalArgumentException("Not a catalog ability: " + abilities.get(i));
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * @return a read-only list of the canonical instances for {@code ids}
+     */
+    public static List<Ability> kit(int... ids) {
+        Ability[] abilities = new Ability[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            abilities[i] = get(ids[i]);
+        }
+        return List.of(abilities);
+    }
+
+    private static void checkId(int id) {
+        if (id < 0 || id >= SIZE) {
+            throw new IllegalArgumentException("Unknown ability id: " + id);
+        }
+    }
+}
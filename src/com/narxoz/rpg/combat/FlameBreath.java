@@ -1,6 +1,8 @@
 package com.narxoz.rpg.combat;
 
-public class FlameBreath implements Ability {
+import com.narxoz.rpg.prototype.Immutable;
+
+public class FlameBreath implements Ability, Immutable {
 
     private final String name;
     private final int damage;
@@ -1,6 +1,8 @@
 package com.narxoz.rpg.combat;
 
-public class ShadowStrike implements Ability {
+import com.narxoz.rpg.prototype.Immutable;
+
+public class ShadowStrike implements Ability, Immutable {
 
     private final String name;
     private final int damage;
@@ -1,6 +1,8 @@
 package com.narxoz.rpg.combat;
 
-public class Vanish implements Ability {
+import com.narxoz.rpg.prototype.Immutable;
+
+public class Vanish implements Ability, Immutable {
 
     private final String name;
     private final int damage;
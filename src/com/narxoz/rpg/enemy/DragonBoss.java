@@ -1,16 +1,15 @@
 package com.narxoz.rpg.enemy;
 
 import com.narxoz.rpg.combat.Ability;
-import com.narxoz.rpg.combat.FlameBreath;
-import com.narxoz.rpg.combat.MeteorStorm;
 import com.narxoz.rpg.loot.LootTable;
-import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.prototype.CloneSupport;
+import com.narxoz.rpg.render.TextOutput;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Map;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 
 /**
@@ -80,6 +79,7 @@ public class DragonBoss implements Enemy {
     private List<Ability> abilities;
 
     private Map<Integer, Integer> phases;
+    private PhaseTable phaseTable;
 
     private LootTable lootTable;
 
@@ -114,6 +114,7 @@ public class DragonBoss implements Enemy {
         // Defensive copies + immutability wrappers
         this.abilities = Collections.unmodifiableList(new ArrayList<>(b.abilities));
         this.phases = Collections.unmodifiableMap(new LinkedHashMap<>(b.phases));
+        this.phaseTable = PhaseTable.compile(this.phases);
 
         this.lootTable = b.lootTable;
         this.aiBehavior = b.aiBehavior;
@@ -123,10 +124,51 @@ public class DragonBoss implements Enemy {
         this.wingspan = b.wingspan;
     }
 
+    private DragonBoss(DragonBoss other, List<Ability> abilities, LootTable lootTable) {
+        this.name = other.name;
+        this.health = other.health;
+        this.damage = other.damage;
+        this.defense = other.defense;
+        this.speed = other.speed;
+        this.element = other.element;
+
+        this.abilities = abilities;
+        this.phases = other.phases;
+        this.phaseTable = other.phaseTable;
+
+        this.lootTable = lootTable;
+        this.aiBehavior = other.aiBehavior;
+
+        this.canFly = other.canFly;
+        this.hasBreathAttack = other.hasBreathAttack;
+        this.wingspan = other.wingspan;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
 
+    /**
+     * @return a builder pre-filled with this boss's state, for deriving variants
+     */
+    public Builder toBuilder() {
+        Builder b = builder()
+                .setName(name)
+                .setHealth(health)
+                .setDamage(damage)
+                .setDefense(defense)
+                .setSpeed(speed)
+                .setElement(element)
+                .setLootTable(lootTable)
+                .setAI(aiBehavior)
+                .setCanFly(canFly)
+                .setHasBreathAttack(hasBreathAttack)
+                .setWingspan(wingspan);
+        b.abilities.addAll(abilities);
+        b.phases.putAll(phases);
+        return b;
+    }
+
     // TODO: Implement methods from Enemy interface
 
     public String getName() {
@@ -161,6 +203,13 @@ public class DragonBoss implements Enemy {
         return phases;
     }
 
+    /**
+     * @return the phases compiled for fast threshold lookup (see PhaseTracker)
+     */
+    public PhaseTable getPhaseTable() {
+        return phaseTable;
+    }
+
     public LootTable getLootTable() {
         return lootTable;
     }
@@ -181,28 +230,36 @@ public class DragonBoss implements Enemy {
         return wingspan;
     }
 
-    public void displayInfo() {
-        System.out.println("=== " + name + " ===");
-        System.out.println("Health: " + health + " | Damage: " + damage
-                + " | Defense: " + defense + " | Speed: " + speed);
-        System.out.println("Element: " + element);
-
-        System.out.println("Abilities (" + abilities.size() + "):");
+    public void render(Appendable out) throws IOException {
+        out.append("=== ").append(name).append(" ===\n");
+        out.append("Health: ");
+        TextOutput.appendInt(out, health).append(" | Damage: ");
+        TextOutput.appendInt(out, damage).append(" | Defense: ");
+        TextOutput.appendInt(out, defense).append(" | Speed: ");
+        TextOutput.appendInt(out, speed).append('\n');
+        out.append("Element: ").append(element).append('\n');
+
+        out.append("Abilities (");
+        TextOutput.appendInt(out, abilities.size()).append("):\n");
         for (Ability a : abilities) {
-            System.out.println("  - " + a);
+            out.append("  - ").append(String.valueOf(a)).append('\n');
         }
 
-        System.out.println("Boss Phases: " + phases.size());
+        out.append("Boss Phases: ");
+        TextOutput.appendInt(out, phases.size()).append('\n');
         for (Map.Entry<Integer, Integer> phase : phases.entrySet()) {
-            System.out.println("  Phase " + phase.getKey() + ": triggers at " + phase.getValue() + " HP");
+            out.append("  Phase ");
+            TextOutput.appendInt(out, phase.getKey()).append(": triggers at ");
+            TextOutput.appendInt(out, phase.getValue()).append(" HP\n");
         }
 
-        System.out.println("AI Behavior: " + aiBehavior);
-        System.out.println("Can Fly: " + canFly
-                + " | Breath Attack: " + hasBreathAttack
-                + " | Wingspan: " + wingspan);
+        out.append("AI Behavior: ").append(aiBehavior).append('\n');
+        out.append("Can Fly: ");
+        TextOutput.appendBoolean(out, canFly).append(" | Breath Attack: ");
+        TextOutput.appendBoolean(out, hasBreathAttack).append(" | Wingspan: ");
+        TextOutput.appendInt(out, wingspan).append('\n');
 
-        System.out.println("Loot: " + (lootTable != null ? lootTable : "None"));
+        out.append("Loot: ").append(lootTable != null ? lootTable.toString() : "None").append('\n');
     }
 
     public static class Builder {
@@ -309,55 +366,29 @@ public class DragonBoss implements Enemy {
 
     }
 
+    /**
+     * DragonBoss is immutable, so its unmodifiable ability list and phase map
+     * are shared with the clone when every ability is shareable
+     * (see {@link CloneSupport}). Mutable abilities or loot are deep-copied.
+     */
     @Override
     public Enemy clone() {
-        DragonBoss.Builder b = DragonBoss.builder()
-                .setName(this.name)
-                .setHealth(this.health)
-                .setDamage(this.damage)
-                .setDefense(this.defense)
-                .setSpeed(this.speed)
-                .setElement(this.element)
-                .setAI(this.aiBehavior)
-                .setCanFly(this.canFly)
-                .setHasBreathAttack(this.hasBreathAttack)
-                .addAbility(new FlameBreath())
-                .addAbility(new MeteorStorm())
-                .setWingspan(this.wingspan)
-                .setLootTable(deepCopyLootTable(this.lootTable));
-
+        List<Ability> copiedAbilities = this.abilities;
         for (Ability ability : this.abilities) {
-            b.addAbility(deepCopyAbility(ability));
+            if (!CloneSupport.isShareable(ability)) {
+                List<Ability> copies = new ArrayList<>(this.abilities.size());
+                for (Ability a : this.abilities) {
+                    copies.add(CloneSupport.copyOf(a));
+                }
+                copiedAbilities = Collections.unmodifiableList(copies);
+                break;
+            }
         }
-        return b.build();
+        return new DragonBoss(this, copiedAbilities, CloneSupport.copyOf(this.lootTable));
     }
 
-    // Deep copy phases map (Integer is immutable so v
-
-    // TODO: Implement clone() for Prototype pattern
-    // DragonBoss has MANY fields that need deep copying:
-    // - abilities (List<Ability>) → deep copy each ability
-    // - phases (Map<Integer, Integer>) → copy the map
-    // - lootTable → deep copy
-    // - primitive fields → direct copy
-    //
-    // This is more complex than Goblin.clone()!
-    // That's the challenge of Prototype with complex objects.
-
     // TODO: Add helper methods for variant creation
     // - void setElement(String element) — for elemental variants
     // - void multiplyStats(double multiplier) — for difficulty tiers
 
-    private Ability deepCopyAbility(Ability ability) {
-        if (ability == null)
-            return null;
-        return ability;
-    }
-
-    private LootTable deepCopyLootTable(LootTable lootTable) {
-        if (lootTable == null)
-            return null;
-        return lootTable;
-    }
-
 }
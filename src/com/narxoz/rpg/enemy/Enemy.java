@@ -3,7 +3,10 @@ package com.narxoz.rpg.enemy;
 import com.narxoz.rpg.combat.Ability;
 import com.narxoz.rpg.loot.LootTable;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Base interface for all enemies in the RPG system.
@@ -91,9 +94,52 @@ public interface Enemy {
     int getDamage();
     int getDefense();
     int getSpeed();
+    String getElement();
+    String getAiBehavior();
     List<Ability> getAbilities();
+
+    /*
+     * Allocation-free ability access for per-tick loops. The defaults go through
+     * getAbilities(); implementations override them with direct field access.
+     */
+
+    default int abilityCount() {
+        return getAbilities().size();
+    }
+
+    default Ability abilityAt(int index) {
+        return getAbilities().get(index);
+    }
+
+    default void forEachAbility(Consumer<? super Ability> action) {
+        List<Ability> abilities = getAbilities();
+        for (int i = 0; i < abilities.size(); i++) {
+            action.accept(abilities.get(i));
+        }
+    }
+
     LootTable getLootTable();
-    void displayInfo();
+
+    /**
+     * Writes the info block shown by displayInfo() to {@code out}, one '\n'
+     * terminated line at a time, without going through System.out.
+     * See com.narxoz.rpg.render.ZoneDumper for batched output.
+     */
+    void render(Appendable out) throws IOException;
+
+    /**
+     * Convenience wrapper: renders into a buffer and prints it in one call.
+     */
+    default void displayInfo() {
+        StringBuilder text = new StringBuilder(256);
+        try {
+            render(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.out.print(text);
+    }
+
     Enemy clone();
 
 }
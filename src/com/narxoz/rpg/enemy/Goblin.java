@@ -2,8 +2,12 @@ package com.narxoz.rpg.enemy;
 
 import com.narxoz.rpg.combat.Ability;
 import com.narxoz.rpg.loot.LootTable;
+import com.narxoz.rpg.prototype.CloneSupport;
+import com.narxoz.rpg.render.TextOutput;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class Goblin implements Enemy {
@@ -15,7 +19,8 @@ public class Goblin implements Enemy {
     private int defense;
     private int speed;
 
-    private List<Ability> abilities;
+    private final List<Ability> abilities;
+    private final List<Ability> abilitiesView;
     private LootTable lootTable;
 
     private String element = "NONE";
@@ -30,9 +35,31 @@ public class Goblin implements Enemy {
         this.speed = 35;
 
         this.abilities = new ArrayList<>();
+        this.abilitiesView = Collections.unmodifiableList(abilities);
         this.lootTable = null;
     }
 
+    private Goblin(Goblin other) {
+        this.name = other.name;
+        this.health = other.health;
+        this.damage = other.damage;
+        this.defense = other.defense;
+        this.speed = other.speed;
+
+        this.element = other.element;
+        this.aiBehavior = other.aiBehavior;
+
+        // The list itself is mutable (addAbility), so it is always copied;
+        // immutable abilities and loot inside it are shared.
+        this.abilities = new ArrayList<>(other.abilities.size());
+        for (Ability a : other.abilities) {
+            this.abilities.add(CloneSupport.copyOf(a));
+        }
+        this.abilitiesView = Collections.unmodifiableList(abilities);
+
+        this.lootTable = CloneSupport.copyOf(other.lootTable);
+    }
+
     @Override
     public String getName() {
         return name;
@@ -58,9 +85,12 @@ public class Goblin implements Enemy {
         return speed;
     }
 
+    /**
+     * @return read-only live view of the abilities; use addAbility to modify
+     */
     @Override
     public List<Ability> getAbilities() {
-        return new ArrayList<>(abilities);
+        return abilitiesView;
     }
 
     @Override
@@ -69,39 +99,37 @@ public class Goblin implements Enemy {
     }
 
     @Override
-    public void displayInfo() {
-        System.out.println("=== " + name + " (Goblin) ===");
-        System.out.println("Health: " + health + " | Damage: " + damage
-                + " | Defense: " + defense + " | Speed: " + speed);
-        System.out.println("Element: " + element + " | AI: " + aiBehavior);
+    public String getElement() {
+        return element;
+    }
+
+    @Override
+    public String getAiBehavior() {
+        return aiBehavior;
+    }
 
-        System.out.println("Abilities (" + abilities.size() + "):");
+    @Override
+    public void render(Appendable out) throws IOException {
+        out.append("=== ").append(name).append(" (Goblin) ===\n");
+        out.append("Health: ");
+        TextOutput.appendInt(out, health).append(" | Damage: ");
+        TextOutput.appendInt(out, damage).append(" | Defense: ");
+        TextOutput.appendInt(out, defense).append(" | Speed: ");
+        TextOutput.appendInt(out, speed).append('\n');
+        out.append("Element: ").append(element).append(" | AI: ").append(aiBehavior).append('\n');
+
+        out.append("Abilities (");
+        TextOutput.appendInt(out, abilities.size()).append("):\n");
         for (Ability a : abilities) {
-            System.out.println("  - " + a.getName() + ": " + a.getDescription());
+            out.append("  - ").append(a.getName()).append(": ").append(a.getDescription()).append('\n');
         }
 
-        System.out.println("Loot: " + (lootTable != null ? lootTable.getLootInfo() : "None"));
+        out.append("Loot: ").append(lootTable != null ? lootTable.getLootInfo() : "None").append('\n');
     }
 
     @Override
     public Enemy clone() {
-        Goblin copy = new Goblin(this.name);
-        copy.health = this.health;
-        copy.damage = this.damage;
-        copy.defense = this.defense;
-        copy.speed = this.speed;
-
-        copy.element = this.element;
-        copy.aiBehavior = this.aiBehavior;
-
-        copy.abilities = new ArrayList<>();
-        for (Ability a : this.abilities) {
-            copy.abilities.add(a != null ? a.clone() : null);
-        }
-
-        copy.lootTable = (this.lootTable != null) ? this.lootTable.clone() : null;
-
-        return copy;
+        return new Goblin(this);
     }
 
     public void multiplyStats(double multiplier) {
@@ -121,6 +149,14 @@ public class Goblin implements Enemy {
         }
     }
 
+    /**
+     * Removes all abilities but keeps the list's capacity, so a recycled
+     * goblin can be refilled without allocating (see EnemyPool).
+     */
+    public void clearAbilities() {
+        abilities.clear();
+    }
+
     public void setLootTable(LootTable lootTable) {
         this.lootTable = lootTable;
     }
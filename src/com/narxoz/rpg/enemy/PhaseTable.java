@@ -0,0 +1,75 @@
+package com.narxoz.rpg.enemy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A boss's phases compiled into primitive arrays sorted by HP threshold,
+ * highest first.
+ *
+ * Phase i is active once the boss's HP has dropped to thresholdAt(i) or below.
+ * indexFor(hp) finds the active phase with a binary search, so per-hit lookups
+ * are O(log n) and allocation-free.
+ *
+ * Immutable; one table is shared by a DragonBoss template and all its clones.
+ */
+public final class PhaseTable {
+
+    private final int[] phaseNumbers;
+    private final int[] thresholds;
+
+    private PhaseTable(int[] phaseNumbers, int[] thresholds) {
+        this.phaseNumbers = phaseNumbers;
+        this.thresholds = thresholds;
+    }
+
+    /**
+     * @param phases phase number → HP threshold, as collected by the builders
+     */
+    public static PhaseTable compile(Map<Integer, Integer> phases) {
+        List<Map.Entry<Integer, Integer>> sorted = new ArrayList<>(phases.entrySet());
+        sorted.sort(Map.Entry.<Integer, Integer>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        int[] phaseNumbers = new int[sorted.size()];
+        int[] thresholds = new int[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            phaseNumbers[i] = sorted.get(i).getKey();
+            thresholds[i] = sorted.get(i).getValue();
+        }
+        return new PhaseTable(phaseNumbers, thresholds);
+    }
+
+    public int size() {
+        return thresholds.length;
+    }
+
+    public int phaseAt(int index) {
+        return phaseNumbers[index];
+    }
+
+    public int thresholdAt(int index) {
+        return thresholds[index];
+    }
+
+    /**
+     * @return index of the active phase at {@code health}, or -1 if health is
+     *         above every threshold (no phase reached yet)
+     */
+    public int indexFor(int health) {
+        // number of thresholds >= health, in a descending array
+        int low = 0;
+        int high = thresholds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (thresholds[mid] >= health) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+}
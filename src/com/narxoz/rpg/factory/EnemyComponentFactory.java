@@ -69,7 +69,8 @@ public interface EnemyComponentFactory {
      * Create the set of abilities for this theme.
      * Example: FireComponentFactory returns [FlameBreath, FireShield, MeteorStorm]
      *
-     * @return list of themed abilities
+     * @return list of themed abilities; may be a shared read-only list of
+     *         {@link com.narxoz.rpg.combat.AbilityCatalog} flyweights
      */
     List<Ability> createAbilities();
 
@@ -1,24 +1,24 @@
 package com.narxoz.rpg.factory;
 
 import com.narxoz.rpg.combat.Ability;
-import com.narxoz.rpg.combat.FireShield;
-import com.narxoz.rpg.combat.FlameBreath;
-import com.narxoz.rpg.combat.MeteorStorm;
+import com.narxoz.rpg.combat.AbilityCatalog;
 import com.narxoz.rpg.loot.FireLootTable;
 import com.narxoz.rpg.loot.LootTable;
 
-import java.util.Arrays;
 import java.util.List;
 
 public class FireComponentFactory implements EnemyComponentFactory {
 
+    /** Catalog flyweights; the list is shared and read-only. */
+    private static final List<Ability> ABILITIES = AbilityCatalog.kit(
+            AbilityCatalog.FLAME_BREATH,
+            AbilityCatalog.FIRE_SHIELD,
+            AbilityCatalog.METEOR_STORM
+    );
+
     @Override
     public List<Ability> createAbilities() {
-        return Arrays.asList(
-                new FlameBreath(),
-                new FireShield(),
-                new MeteorStorm()
-        );
+        return ABILITIES;
     }
 
     @Override
@@ -1,22 +1,23 @@
 package com.narxoz.rpg.factory;
 
 import com.narxoz.rpg.combat.Ability;
-import com.narxoz.rpg.combat.FrostBreath;
-import com.narxoz.rpg.combat.IceShield;
+import com.narxoz.rpg.combat.AbilityCatalog;
 import com.narxoz.rpg.loot.IceLootTable;
 import com.narxoz.rpg.loot.LootTable;
 
-import java.util.Arrays;
 import java.util.List;
 
 public class IceComponentFactory implements EnemyComponentFactory {
 
+    /** Catalog flyweights; the list is shared and read-only. */
+    private static final List<Ability> ABILITIES = AbilityCatalog.kit(
+            AbilityCatalog.ICE_SHIELD,
+            AbilityCatalog.FROST_BREATH
+    );
+
     @Override
     public List<Ability> createAbilities() {
-        return Arrays.asList(
-                new IceShield(),
-                new FrostBreath()
-        );
+        return ABILITIES;
     }
 
     @Override
@@ -1,24 +1,24 @@
 package com.narxoz.rpg.factory;
 
 import com.narxoz.rpg.combat.Ability;
-import com.narxoz.rpg.combat.BattleCry;
-import com.narxoz.rpg.combat.ShadowStrike;
-import com.narxoz.rpg.combat.Vanish;
+import com.narxoz.rpg.combat.AbilityCatalog;
 import com.narxoz.rpg.loot.LootTable;
 import com.narxoz.rpg.loot.ShadowLootTable;
 
-import java.util.Arrays;
 import java.util.List;
 
 public class ShadowComponentFactory implements EnemyComponentFactory {
 
+    /** Catalog flyweights; the list is shared and read-only. */
+    private static final List<Ability> ABILITIES = AbilityCatalog.kit(
+            AbilityCatalog.BATTLE_CRY,
+            AbilityCatalog.VANISH,
+            AbilityCatalog.SHADOW_STRIKE
+    );
+
     @Override
     public List<Ability> createAbilities() {
-        return Arrays.asList(
-                new BattleCry(),
-                new Vanish(),
-                new ShadowStrike()
-        );
+        return ABILITIES;
     }
 
     @Override
@@ -0,0 +1,226 @@
+package com.narxoz.rpg.journal;
+
+import com.narxoz.rpg.battle.PhaseListener;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Binary journal of combat events (hits, phase changes, loot drops) for
+ * post-fight analysis. Decode files with {@link JournalReader}.
+ *
+ * File format (little-endian):
+ *   header: int MAGIC ('RPGJ'), short VERSION, short RECORD_SIZE
+ *   records, RECORD_SIZE (32) bytes each:
+ *     long  sequence      (global order of the events)
+ *     long  timestamp     (System.nanoTime() when recorded)
+ *     byte  type          (HIT, PHASE_CHANGE, LOOT_DROP)
+ *     byte  flags         (FLAG_CRITICAL for hits)
+ *     short ability id    (AbilityCatalog id + 1; 0 = basic attack / none)
+ *     int   encounter id
+ *     int   a, int b      (HIT: damage, target HP after;
+ *                          PHASE_CHANGE: previous phase, new phase;
+ *                          LOOT_DROP: item index in the loot table, gold)
+ *
+ * Recording:
+ * Any number of threads may record concurrently. Each event claims a slot
+ * of a bounded ring with one atomic increment, writes its fields and
+ * publishes the slot by storing its sequence number; no locks are taken.
+ * A background thread drains published slots in sequence order into a
+ * direct buffer and writes whole batches to the file channel. When the
+ * ring is full, recording threads wait (spin, then park) for the writer
+ * rather than dropping events.
+ *
+ * close() must only be called once producers have stopped recording; it
+ * drains the ring and closes the file.
+ */
+public final class CombatJournal implements AutoCloseable {
+
+    public static final int MAGIC = 0x52504A47;
+    public static final short VERSION = 1;
+    public static final short RECORD_SIZE = 32;
+    public static final int HEADER_SIZE = 8;
+
+    public static final byte HIT = 1;
+    public static final byte PHASE_CHANGE = 2;
+    public static final byte LOOT_DROP = 3;
+
+    public static final byte FLAG_CRITICAL = 1;
+
+    /** Records written per channel write, at most. */
+    private static final int BATCH_RECORDS = 2048;
+    /** Longs per ring slot: timestamp, type/flags/ability/encounter, a/b, padding. */
+    private static final int STRIDE = 4;
+
+    private final FileChannel channel;
+    private final int mask;
+    private final long[] slots;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+    private volatile boolean running = true;
+    private volatile IOException failure;
+    private final Thread writer;
+
+    private CombatJournal(FileChannel channel, int capacity) {
+        this.channel = channel;
+        this.mask = capacity - 1;
+        this.slots = new long[capacity * STRIDE];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        this.writer = new Thread(this::drain, "combat-journal");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * Creates (or truncates) {@code file} and starts the writer thread.
+     *
+     * @param capacity ring size in events, a power of two
+     */
+    public static CombatJournal open(Path file, int capacity) throws IOException {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two >= 2");
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putShort(VERSION).putShort(RECORD_SIZE).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        CombatJournal journal = new CombatJournal(channel, capacity);
+        journal.writer.start();
+        return journal;
+    }
+
+    /**
+     * @param abilityId AbilityCatalog id, or -1 for a basic attack
+     */
+    public void hit(int encounter, int abilityId, int damage, int healthAfter, boolean critical) {
+        record(HIT, critical ? FLAG_CRITICAL : 0, abilityId + 1, encounter, damage, healthAfter);
+    }
+
+    public void phaseChange(int encounter, int previousPhase, int newPhase) {
+        record(PHASE_CHANGE, 0, 0, encounter, previousPhase, newPhase);
+    }
+
+    public void lootDrop(int encounter, int itemIndex, int gold) {
+        record(LOOT_DROP, 0, 0, encounter, itemIndex, gold);
+    }
+
+    /**
+     * @return a listener that records the phase changes of one encounter
+     */
+    public PhaseListener phaseListener(int encounter) {
+        return (previous, next, health) -> phaseChange(encounter, previous, next);
+    }
+
+    /**
+     * @return number of events recorded so far (not necessarily written yet)
+     */
+    public long recorded() {
+        return claimed.get();
+    }
+
+    private void record(byte type, int flags, int ability, int encounter, int a, int b) {
+        if (!running) {
+            throw new IllegalStateException("Journal is closed");
+        }
+        long sequence = claimed.getAndIncrement();
+        waitForSpace(sequence);
+
+        int base = (int) (sequence & mask) * STRIDE;
+        slots[base] = System.nanoTime();
+        slots[base + 1] = (type & 0xFFL) | (flags & 0xFFL) << 8 | (ability & 0xFFFFL) << 16 | (long) encounter << 32;
+        slots[base + 2] = (a & 0xFFFFFFFFL) | (long) b << 32;
+        published.lazySet((int) (sequence & mask), sequence);
+    }
+
+    private void waitForSpace(long sequence) {
+        int spins = 0;
+        while (sequence - consumed > mask) {
+            if (failure != null) {
+                throw new IllegalStateException("Journal writer failed", failure);
+            }
+            if (++spins < 100) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(1_000);
+            }
+        }
+    }
+
+    /**
+     * Writer loop: copies published slots in order into a batch buffer,
+     * frees them, then writes the batch.
+     */
+    private void drain() {
+        ByteBuffer batch = ByteBuffer.allocateDirect(BATCH_RECORDS * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        long next = 0;
+        try {
+            while (true) {
+                int slot = (int) (next & mask);
+                if (published.get(slot) == next) {
+                    int base = slot * STRIDE;
+                    long meta = slots[base + 1];
+                    batch.putLong(next)
+                            .putLong(slots[base])
+                            .put((byte) meta)
+                            .put((byte) (meta >>> 8))
+                            .putShort((short) (meta >>> 16))
+                            .putInt((int) (meta >>> 32))
+                            .putLong(slots[base + 2]);
+                    next++;
+                    if (batch.hasRemaining()) {
+                        continue;
+                    }
+                }
+                if (batch.position() > 0) {
+                    consumed = next;
+                    batch.flip();
+                    while (batch.hasRemaining()) {
+                        channel.write(batch);
+                    }
+                    batch.clear();
+                } else if (!running && next == claimed.get()) {
+                    break;
+                } else {
+                    LockSupport.parkNanos(50_000);
+                }
+            }
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    /**
+     * Drains every recorded event to the file and closes it.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.force(false);
+        channel.close();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
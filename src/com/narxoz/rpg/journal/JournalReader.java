@@ -0,0 +1,113 @@
+package com.narxoz.rpg.journal;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Decodes files written by {@link CombatJournal}.
+ *
+ * Command line:
+ *   java com.narxoz.rpg.journal.JournalReader <file> [--summary]
+ * prints every record (or only the per-type counts with --summary).
+ */
+public final class JournalReader {
+
+    /** Records per read; the buffer is reused for the whole file. */
+    private static final int READ_RECORDS = 4096;
+
+    private JournalReader() {
+    }
+
+    /**
+     * Visits every record of {@code file} in sequence order, reusing one
+     * JournalRecord instance. The file is streamed through a fixed-size
+     * buffer, so journals of any length can be read. A trailing partial
+     * record (a crash mid-write) is ignored.
+     *
+     * @return number of records visited
+     * @throws IOException if the file is not a journal of this version
+     */
+    public static long forEach(Path file, Consumer<JournalRecord> action) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer in = ByteBuffer.allocateDirect(READ_RECORDS * CombatJournal.RECORD_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            in.limit(CombatJournal.HEADER_SIZE);
+            int read;
+            do {
+                read = channel.read(in);
+            } while (read >= 0 && in.hasRemaining());
+            in.flip();
+            if (in.remaining() < CombatJournal.HEADER_SIZE || in.getInt() != CombatJournal.MAGIC) {
+                throw new IOException("Not a combat journal: " + file);
+            }
+            short version = in.getShort();
+            short recordSize = in.getShort();
+            if (version != CombatJournal.VERSION || recordSize != CombatJournal.RECORD_SIZE) {
+                throw new IOException("Unsupported journal version " + version + " / record size " + recordSize);
+            }
+
+            JournalRecord record = new JournalRecord();
+            long count = 0;
+            boolean eof = false;
+            in.clear();
+            while (!eof) {
+                eof = channel.read(in) < 0;
+                in.flip();
+                while (in.remaining() >= recordSize) {
+                    record.readFrom(in);
+                    action.accept(record);
+                    count++;
+                }
+                in.compact();
+            }
+            return count;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: JournalReader <file> [--summary]");
+            System.exit(2);
+        }
+        Path file = Paths.get(args[0]);
+        boolean summaryOnly = args.length > 1 && args[1].equals("--summary");
+
+        long[] perType = new long[4];
+        long[] expected = {0};
+        long[] gaps = {0};
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+        long total = forEach(file, record -> {
+            int type = record.getType();
+            perType[type >= 1 && type <= 3 ? type : 0]++;
+            if (record.getSequence() != expected[0]) {
+                gaps[0]++;
+            }
+            expected[0] = record.getSequence() + 1;
+            if (!summaryOnly) {
+                try {
+                    record.render(out);
+                    out.append('\n');
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+        out.append("Records: ").append(Long.toString(total))
+                .append(" (hits ").append(Long.toString(perType[CombatJournal.HIT]))
+                .append(", phase changes ").append(Long.toString(perType[CombatJournal.PHASE_CHANGE]))
+                .append(", loot drops ").append(Long.toString(perType[CombatJournal.LOOT_DROP]))
+                .append(", unknown ").append(Long.toString(perType[0]))
+                .append("), sequence gaps ").append(Long.toString(gaps[0])).append('\n');
+        out.flush();
+    }
+}
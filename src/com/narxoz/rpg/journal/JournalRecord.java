@@ -0,0 +1,118 @@
+package com.narxoz.rpg.journal;
+
+import com.narxoz.rpg.combat.AbilityCatalog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * One decoded journal record. {@link JournalReader} reuses a single
+ * instance for every record it visits; copy out what you need to keep.
+ */
+public final class JournalRecord {
+
+    private long sequence;
+    private long timestamp;
+    private byte type;
+    private byte flags;
+    private int abilityId;
+    private int encounter;
+    private int a;
+    private int b;
+
+    JournalRecord() {
+    }
+
+    /**
+     * Reads one record at the buffer's position and advances it.
+     */
+    void readFrom(ByteBuffer in) {
+        sequence = in.getLong();
+        timestamp = in.getLong();
+        type = in.get();
+        flags = in.get();
+        abilityId = (in.getShort() & 0xFFFF) - 1;
+        encounter = in.getInt();
+        a = in.getInt();
+        b = in.getInt();
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public byte getType() {
+        return type;
+    }
+
+    public int getEncounter() {
+        return encounter;
+    }
+
+    /**
+     * @return AbilityCatalog id of a hit, or -1 for a basic attack or a non-hit record
+     */
+    public int getAbilityId() {
+        return abilityId;
+    }
+
+    public boolean isCritical() {
+        return (flags & CombatJournal.FLAG_CRITICAL) != 0;
+    }
+
+    /** HIT: damage; PHASE_CHANGE: previous phase; LOOT_DROP: item index. */
+    public int getA() {
+        return a;
+    }
+
+    /** HIT: target HP after; PHASE_CHANGE: new phase; LOOT_DROP: gold. */
+    public int getB() {
+        return b;
+    }
+
+    public void render(Appendable out) throws IOException {
+        out.append('#').append(Long.toString(sequence))
+                .append(" enc=").append(Integer.toString(encounter)).append(' ');
+        switch (type) {
+            case CombatJournal.HIT:
+                out.append("HIT ");
+                if (abilityId < 0) {
+                    out.append("Basic Attack");
+                } else if (abilityId < AbilityCatalog.SIZE) {
+                    out.append(AbilityCatalog.nameOf(abilityId));
+                } else {
+                    out.append("UNKNOWN ability=").append(Integer.toString(abilityId));
+                }
+                out.append(" dmg=").append(Integer.toString(a))
+                        .append(" hp=").append(Integer.toString(b));
+                if (isCritical()) {
+                    out.append(" CRIT");
+                }
+                break;
+            case CombatJournal.PHASE_CHANGE:
+                out.append("PHASE ").append(Integer.toString(a)).append(" -> ").append(Integer.toString(b));
+                break;
+            case CombatJournal.LOOT_DROP:
+                out.append("LOOT item=").append(Integer.toString(a)).append(" gold=").append(Integer.toString(b));
+                break;
+            default:
+                out.append("UNKNOWN type=").append(Integer.toString(type));
+                break;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        try {
+            render(sb);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return sb.toString();
+    }
+}
@@ -1,30 +1,32 @@
 package com.narxoz.rpg.loot;
 
-import java.util.ArrayList;
+import com.narxoz.rpg.prototype.Immutable;
+
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
-public class FireLootTable implements LootTable {
+public class FireLootTable implements LootTable, Immutable {
 
     private final List<String> items;
     private final int goldDrop;
     private final int experienceDrop;
 
     public FireLootTable() {
-        this.items = Arrays.asList("Fire Gem", "Charred Scale", "Ember Core");
+        this.items = Collections.unmodifiableList(Arrays.asList("Fire Gem", "Charred Scale", "Ember Core"));
         this.goldDrop = 250;
         this.experienceDrop = 600;
     }
 
     private FireLootTable(FireLootTable other) {
-        this.items = new ArrayList<>(other.items);
+        this.items = other.items;
         this.goldDrop = other.goldDrop;
         this.experienceDrop = other.experienceDrop;
     }
 
     @Override
     public List<String> getItems() {
-        return new ArrayList<>(items);
+        return items;
     }
 
     @Override
@@ -1,30 +1,32 @@
 package com.narxoz.rpg.loot;
 
-import java.util.ArrayList;
+import com.narxoz.rpg.prototype.Immutable;
+
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
-public class IceLootTable implements LootTable {
+public class IceLootTable implements LootTable, Immutable {
 
     private final List<String> items;
     private final int goldDrop;
     private final int experienceDrop;
 
     public IceLootTable() {
-        this.items = new ArrayList<>(Arrays.asList("Ice Crystal", "Frozen Fang", "Glacier Shard"));
+        this.items = Collections.unmodifiableList(Arrays.asList("Ice Crystal", "Frozen Fang", "Glacier Shard"));
         this.goldDrop = 220;
         this.experienceDrop = 600;
     }
 
     private IceLootTable(IceLootTable other) {
-        this.items = new ArrayList<>(other.items);
+        this.items = other.items;
         this.goldDrop = other.goldDrop;
         this.experienceDrop = other.experienceDrop;
     }
 
     @Override
     public List<String> getItems() {
-        return new ArrayList<>(items);
+        return items;
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.narxoz.rpg.loot;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Interface for enemy loot/drop tables in the RPG system.
@@ -19,6 +20,8 @@ import java.util.List;
  * Loot tables must be DEEP-COPYABLE! When you clone an enemy,
  * its loot table must be an independent copy. Otherwise, modifying
  * a cloned enemy's loot will affect the original.
+ * Loot tables that implement {@link com.narxoz.rpg.prototype.Immutable}
+ * cannot be modified, so clones share them instead.
  *
  * TODO: Define what all loot tables have in common.
  * Think about:
@@ -44,8 +47,26 @@ public interface LootTable {
     // - String getLootInfo()
     // - LootTable clone() <-- IMPORTANT for deep copying!
 
+    /**
+     * @return read-only view of the items; it is not a copy
+     */
     List<String> getItems();
 
+    default int itemCount() {
+        return getItems().size();
+    }
+
+    default String itemAt(int index) {
+        return getItems().get(index);
+    }
+
+    default void forEachItem(Consumer<? super String> action) {
+        List<String> items = getItems();
+        for (int i = 0; i < items.size(); i++) {
+            action.accept(items.get(i));
+        }
+    }
+
     int getGoldDrop();
 
     int getExperienceDrop();
@@ -1,30 +1,32 @@
 package com.narxoz.rpg.loot;
 
-import java.util.ArrayList;
+import com.narxoz.rpg.prototype.Immutable;
+
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
-public class ShadowLootTable implements LootTable {
+public class ShadowLootTable implements LootTable, Immutable {
 
     private final List<String> items;
     private final int goldDrop;
     private final int experienceDrop;
 
     public ShadowLootTable() {
-        this.items = new ArrayList<>(Arrays.asList("Shadow Essence", "Night Cloak Fragment", "Void Dust"));
+        this.items = Collections.unmodifiableList(Arrays.asList("Shadow Essence", "Night Cloak Fragment", "Void Dust"));
         this.goldDrop = 300;
         this.experienceDrop = 700;
     }
 
     private ShadowLootTable(ShadowLootTable other) {
-        this.items = new ArrayList<>(other.items);
+        this.items = other.items;
         this.goldDrop = other.goldDrop;
         this.experienceDrop = other.experienceDrop;
     }
 
     @Override
     public List<String> getItems() {
-        return new ArrayList<>(items);
+        return items;
     }
 
     @Override
@@ -0,0 +1,134 @@
+package com.narxoz.rpg.population;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Applies stat multipliers to whole PopulationStore ranges at once:
+ * difficulty tiers ("everything x1.5") and events ("all SHADOW mobs +30%").
+ *
+ * Each stat column is scaled in its own pass with
+ * {@code (int) Math.round(value * multiplier)}, exactly the rounding of
+ * Goblin.multiplyStats, so scaling a row here gives the same result as
+ * scaling the equivalent Goblin. Populations of at least PARALLEL_THRESHOLD
+ * rows are split into chunks on the common ForkJoin pool.
+ *
+ * The loops are plain counted passes over int[] columns so the JIT can
+ * unroll them. The JDK 17 Vector API is still an incubator module and is
+ * deliberately not used.
+ */
+public final class DifficultyScaler {
+
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int CHUNK = 1 << 14;
+
+    private DifficultyScaler() {
+    }
+
+    /**
+     * Scales health, damage, defense and speed of every row.
+     */
+    public static void scaleAll(PopulationStore store, double multiplier) {
+        validate(store, multiplier);
+        scaleRange(store, 0, store.size, multiplier, -1);
+    }
+
+    /**
+     * Scales the four stats of every row whose element is {@code element}.
+     */
+    public static void scaleElement(PopulationStore store, String element, double multiplier) {
+        validate(store, multiplier);
+        int code = store.codeOf(element);
+        if (code < 0) {
+            return;
+        }
+        scaleRange(store, 0, store.size, multiplier, code);
+    }
+
+    /**
+     * Scales the four stats of rows {@code [from, to)}.
+     */
+    public static void scaleRange(PopulationStore store, int from, int to, double multiplier) {
+        validate(store, multiplier);
+        scaleRange(store, from, to, multiplier, -1);
+    }
+
+    private static void scaleRange(PopulationStore store, int from, int to, double multiplier, int elementCode) {
+        if (from < 0 || to > store.size || from > to) {
+            throw new IndexOutOfBoundsException("Invalid range [" + from + ", " + to + ") for size " + store.size);
+        }
+
+        if (to - from < PARALLEL_THRESHOLD) {
+            scaleChunk(store, from, to, multiplier, elementCode);
+        } else {
+            ForkJoinPool.commonPool().invoke(new ScaleTask(store, from, to, multiplier, elementCode));
+        }
+    }
+
+    private static void validate(PopulationStore store, double multiplier) {
+        if (store == null) {
+            throw new IllegalArgumentException("Store must not be null");
+        }
+        if (multiplier <= 0) {
+            throw new IllegalArgumentException("Multiplier must be > 0");
+        }
+    }
+
+    static void scaleChunk(PopulationStore store, int from, int to, double multiplier, int elementCode) {
+        if (elementCode < 0) {
+            scaleColumn(store.health, from, to, multiplier);
+            scaleColumn(store.damage, from, to, multiplier);
+            scaleColumn(store.defense, from, to, multiplier);
+            scaleColumn(store.speed, from, to, multiplier);
+        } else {
+            int[] elements = store.elementCode;
+            scaleColumn(store.health, elements, elementCode, from, to, multiplier);
+            scaleColumn(store.damage, elements, elementCode, from, to, multiplier);
+            scaleColumn(store.defense, elements, elementCode, from, to, multiplier);
+            scaleColumn(store.speed, elements, elementCode, from, to, multiplier);
+        }
+    }
+
+    private static void scaleColumn(int[] column, int from, int to, double multiplier) {
+        for (int i = from; i < to; i++) {
+            column[i] = (int) Math.round(column[i] * multiplier);
+        }
+    }
+
+    private static void scaleColumn(int[] column, int[] elements, int code, int from, int to, double multiplier) {
+        for (int i = from; i < to; i++) {
+            int value = column[i];
+            column[i] = elements[i] == code ? (int) Math.round(value * multiplier) : value;
+        }
+    }
+
+    private static final class ScaleTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final PopulationStore store;
+        private final int from;
+        private final int to;
+        private final double multiplier;
+        private final int elementCode;
+
+        ScaleTask(PopulationStore store, int from, int to, double multiplier, int elementCode) {
+            this.store = store;
+            this.from = from;
+            this.to = to;
+            this.multiplier = multiplier;
+            this.elementCode = elementCode;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK) {
+                scaleChunk(store, from, to, multiplier, elementCode);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ScaleTask(store, from, mid, multiplier, elementCode),
+                    new ScaleTask(store, mid, to, multiplier, elementCode));
+        }
+    }
+}
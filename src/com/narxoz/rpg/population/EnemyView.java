@@ -0,0 +1,83 @@
+package com.narxoz.rpg.population;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.loot.LootTable;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Read-only Enemy facade over one PopulationStore row.
+ *
+ * The view reads the columns on every call, so it reflects later updates
+ * to the row. clone() detaches the row into a standalone Goblin.
+ */
+final class EnemyView implements Enemy {
+
+    private final PopulationStore store;
+    private final int row;
+
+    EnemyView(PopulationStore store, int row) {
+        this.store = store;
+        this.row = row;
+    }
+
+    @Override
+    public String getName() {
+        return store.getName(row);
+    }
+
+    @Override
+    public int getHealth() {
+        return store.getHealth(row);
+    }
+
+    @Override
+    public int getDamage() {
+        return store.getDamage(row);
+    }
+
+    @Override
+    public int getDefense() {
+        return store.getDefense(row);
+    }
+
+    @Override
+    public int getSpeed() {
+        return store.getSpeed(row);
+    }
+
+    @Override
+    public String getElement() {
+        return store.getElement(row);
+    }
+
+    @Override
+    public String getAiBehavior() {
+        return store.getAiBehavior(row);
+    }
+
+    @Override
+    public List<Ability> getAbilities() {
+        return store.getAbilities(row);
+    }
+
+    @Override
+    public LootTable getLootTable() {
+        return store.getLootTable(row);
+    }
+
+    @Override
+    public void render(Appendable out) throws IOException {
+        RowSupport.render(this, row, out);
+    }
+
+    /**
+     * @throws IllegalStateException if the row is dead (see PopulationStore.materialize)
+     */
+    @Override
+    public Enemy clone() {
+        return RowSupport.materialize(this, row);
+    }
+}
@@ -0,0 +1,350 @@
+package com.narxoz.rpg.population;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.Goblin;
+import com.narxoz.rpg.loot.LootTable;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Off-heap storage for dormant enemies.
+ *
+ * Every enemy is a fixed 36-byte record in native memory:
+ * <pre>
+ *   int health, damage, defense, speed
+ *   int nameCode, elementCode, aiCode     (interned strings)
+ *   int abilitySetId, lootTableId         (shared component tables)
+ * </pre>
+ * Records live in one direct buffer per store, so the GC only sees one
+ * small buffer object no matter how many enemies are stored. The buffer
+ * starts at the requested capacity and doubles (copying the records) when
+ * it fills up, to at most MAX_ROWS records (2 GB). Strings, ability lists
+ * and loot tables stay on the heap, one copy per distinct value.
+ *
+ * Native memory limit: direct buffers count against -XX:MaxDirectMemorySize,
+ * which defaults to the maximum heap size. At 36 bytes per row, 10 million
+ * rows need about 360 MB of it, and up to twice that briefly while the
+ * buffer grows; raise the limit for larger stores or adding fails with
+ * OutOfMemoryError("Direct buffer memory").
+ *
+ * Reading goes through a {@link Cursor}, a reusable flyweight implementing
+ * Enemy that can be moved from row to row without allocating. materialize()
+ * turns a record into a heap Goblin for the active working set.
+ *
+ * Lifecycle: close() drops the buffer and makes every further access,
+ * through the store or its cursors, fail with IllegalStateException. The
+ * native memory is returned when the GC collects the buffer; a direct
+ * allocation that would exceed the limit triggers that collection first.
+ * Not thread-safe.
+ */
+public class OffHeapEnemyStore implements AutoCloseable {
+
+    public static final int RECORD_BYTES = 36;
+    public static final int MAX_ROWS = Integer.MAX_VALUE / RECORD_BYTES;
+    private static final int DEFAULT_CAPACITY = 1 << 10;
+
+    private static final int HEALTH = 0;
+    private static final int DAMAGE = 4;
+    private static final int DEFENSE = 8;
+    private static final int SPEED = 12;
+    private static final int NAME = 16;
+    private static final int ELEMENT = 20;
+    private static final int AI = 24;
+    private static final int ABILITY_SET = 28;
+    private static final int LOOT_TABLE = 32;
+
+    private ByteBuffer records;
+    private int size;
+
+    private final SymbolTable<String> strings = SymbolTable.byEquality();
+    private final SymbolTable<List<Ability>> abilitySets = SymbolTable.byEquality();
+    private final SymbolTable<LootTable> lootTables = new SymbolTable<>(new IdentityHashMap<>());
+
+    public OffHeapEnemyStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity rows to reserve up front, in [1, MAX_ROWS]
+     */
+    public OffHeapEnemyStore(int initialCapacity) {
+        if (initialCapacity <= 0 || initialCapacity > MAX_ROWS) {
+            throw new IllegalArgumentException("Invalid initial capacity: " + initialCapacity);
+        }
+        this.records = allocate(initialCapacity);
+        lootTables.intern(null);
+    }
+
+    // ------------------------------------------------------------
+    // Writing
+    // ------------------------------------------------------------
+
+    /**
+     * Copies {@code enemy}'s current state into a new off-heap record.
+     *
+     * @return the new row index
+     */
+    public int add(Enemy enemy) {
+        if (enemy == null) {
+            throw new IllegalArgumentException("Enemy must not be null");
+        }
+        return add(enemy, 1);
+    }
+
+    /**
+     * Stores {@code count} records of a registry template without cloning it.
+     *
+     * @return index of the first stored row
+     */
+    public int addFromTemplate(EnemyRegistry registry, String key, int count) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry must not be null");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must be >= 0");
+        }
+        return add(registry.getTemplate(key), count);
+    }
+
+    private int add(Enemy template, int count) {
+        checkOpen();
+        int health = template.getHealth();
+        int damage = template.getDamage();
+        int defense = template.getDefense();
+        int speed = template.getSpeed();
+        int name = strings.intern(template.getName());
+        int element = strings.intern(template.getElement());
+        int ai = strings.intern(template.getAiBehavior());
+        int abilitySet = RowSupport.internAbilities(abilitySets, template.getAbilities());
+        int loot = lootTables.intern(template.getLootTable());
+
+        int first = size;
+        ensureCapacity((long) size + count);
+        for (int i = 0; i < count; i++) {
+            int base = size * RECORD_BYTES;
+            records.putInt(base + HEALTH, health);
+            records.putInt(base + DAMAGE, damage);
+            records.putInt(base + DEFENSE, defense);
+            records.putInt(base + SPEED, speed);
+            records.putInt(base + NAME, name);
+            records.putInt(base + ELEMENT, element);
+            records.putInt(base + AI, ai);
+            records.putInt(base + ABILITY_SET, abilitySet);
+            records.putInt(base + LOOT_TABLE, loot);
+            size++;
+        }
+        return first;
+    }
+
+    public void setHealth(int row, int health) {
+        putInt(row, HEALTH, health);
+    }
+
+    // ------------------------------------------------------------
+    // Reading
+    // ------------------------------------------------------------
+
+    public int size() {
+        return size;
+    }
+
+    public int getHealth(int row) {
+        return getInt(row, HEALTH);
+    }
+
+    public int getDamage(int row) {
+        return getInt(row, DAMAGE);
+    }
+
+    public int getDefense(int row) {
+        return getInt(row, DEFENSE);
+    }
+
+    public int getSpeed(int row) {
+        return getInt(row, SPEED);
+    }
+
+    public String getName(int row) {
+        return strings.valueOf(getInt(row, NAME));
+    }
+
+    public String getElement(int row) {
+        return strings.valueOf(getInt(row, ELEMENT));
+    }
+
+    public String getAiBehavior(int row) {
+        return strings.valueOf(getInt(row, AI));
+    }
+
+    public List<Ability> getAbilities(int row) {
+        return abilitySets.valueOf(getInt(row, ABILITY_SET));
+    }
+
+    public LootTable getLootTable(int row) {
+        return lootTables.valueOf(getInt(row, LOOT_TABLE));
+    }
+
+    /**
+     * @return a new flyweight positioned on row 0; move it with {@link Cursor#moveTo(int)}
+     */
+    public Cursor cursor() {
+        checkOpen();
+        return new Cursor(this);
+    }
+
+    /**
+     * Loads a record into a standalone heap Goblin for the active working set.
+     *
+     * @throws IllegalStateException if the row is dead (health <= 0); a Goblin cannot hold that state
+     */
+    public Goblin materialize(int row) {
+        checkRow(row);
+        return RowSupport.materialize(new Cursor(this).moveTo(row), row);
+    }
+
+    public boolean isOpen() {
+        return records != null;
+    }
+
+    /**
+     * Drops the buffer (see the class doc) and closes the store. Calling
+     * close() again has no effect.
+     */
+    @Override
+    public void close() {
+        records = null;
+        size = 0;
+    }
+
+    /**
+     * Doubles the buffer, copying the records, until it holds {@code rows} rows.
+     */
+    private void ensureCapacity(long rows) {
+        if (rows > MAX_ROWS) {
+            throw new IllegalStateException("Off-heap store cannot hold more than " + MAX_ROWS + " rows");
+        }
+        int capacity = records.capacity() / RECORD_BYTES;
+        if (rows <= capacity) {
+            return;
+        }
+        ByteBuffer grown = allocate((int) Math.min(MAX_ROWS, Math.max(rows, (long) capacity * 2)));
+        grown.put(records.duplicate().clear().limit(size * RECORD_BYTES));
+        grown.clear();
+        records = grown;
+    }
+
+    private static ByteBuffer allocate(int rows) {
+        return ByteBuffer.allocateDirect(rows * RECORD_BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    private int getInt(int row, int field) {
+        checkRow(row);
+        return records.getInt(row * RECORD_BYTES + field);
+    }
+
+    private void putInt(int row, int field, int value) {
+        checkRow(row);
+        records.putInt(row * RECORD_BYTES + field, value);
+    }
+
+    private void checkRow(int row) {
+        checkOpen();
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + size);
+        }
+    }
+
+    private void checkOpen() {
+        if (records == null) {
+            throw new IllegalStateException("Off-heap store is closed");
+        }
+    }
+
+    /**
+     * Movable read-only Enemy flyweight over one off-heap record.
+     */
+    public static final class Cursor implements Enemy {
+
+        private final OffHeapEnemyStore store;
+        private int row;
+
+        private Cursor(OffHeapEnemyStore store) {
+            this.store = store;
+        }
+
+        public Cursor moveTo(int row) {
+            store.checkRow(row);
+            this.row = row;
+            return this;
+        }
+
+        public int row() {
+            return row;
+        }
+
+        @Override
+        public String getName() {
+            return store.getName(row);
+        }
+
+        @Override
+        public int getHealth() {
+            return store.getHealth(row);
+        }
+
+        @Override
+        public int getDamage() {
+            return store.getDamage(row);
+        }
+
+        @Override
+        public int getDefense() {
+            return store.getDefense(row);
+        }
+
+        @Override
+        public int getSpeed() {
+            return store.getSpeed(row);
+        }
+
+        @Override
+        public String getElement() {
+            return store.getElement(row);
+        }
+
+        @Override
+        public String getAiBehavior() {
+            return store.getAiBehavior(row);
+        }
+
+        @Override
+        public List<Ability> getAbilities() {
+            return store.getAbilities(row);
+        }
+
+        @Override
+        public LootTable getLootTable() {
+            return store.getLootTable(row);
+        }
+
+        @Override
+        public void render(Appendable out) throws IOException {
+            RowSupport.render(this, row, out);
+        }
+
+        /**
+         * @return the current record as a standalone heap Goblin
+         * @throws IllegalStateException if the row is dead
+         */
+        @Override
+        public Enemy clone() {
+            return RowSupport.materialize(this, row);
+        }
+    }
+}
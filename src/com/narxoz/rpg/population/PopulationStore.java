@@ -0,0 +1,315 @@
+package com.narxoz.rpg.population;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.Goblin;
+import com.narxoz.rpg.loot.LootTable;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Struct-of-arrays store for very large numbers of live enemies.
+ *
+ * Instead of one Enemy object per mob, every enemy is a row index into
+ * parallel int columns: health, damage, defense, speed, plus interned codes
+ * for name, element and AI, an ability-set id and a loot-table id. Names,
+ * elements, AI strings, ability lists and loot tables are each stored once
+ * per distinct value.
+ *
+ * Scans and bulk updates (damageAll, forEachWithElement, ...) are linear
+ * passes over primitive arrays. view(row) exposes a row as a read-only Enemy
+ * for code that expects the object API.
+ *
+ * Boss-specific data (phases, flight, wingspan) is not stored.
+ * Not thread-safe: one store per simulation thread or external locking.
+ */
+public class PopulationStore {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    int size;
+    int[] health;
+    int[] damage;
+    int[] defense;
+    int[] speed;
+    int[] nameCode;
+    int[] elementCode;
+    int[] aiCode;
+    int[] abilitySetId;
+    int[] lootTableId;
+
+    private final SymbolTable<String> strings = SymbolTable.byEquality();
+    private final SymbolTable<List<Ability>> abilitySets = SymbolTable.byEquality();
+    private final SymbolTable<LootTable> lootTables = new SymbolTable<>(new IdentityHashMap<>());
+
+    public PopulationStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public PopulationStore(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be > 0");
+        }
+        health = new int[initialCapacity];
+        damage = new int[initialCapacity];
+        defense = new int[initialCapacity];
+        speed = new int[initialCapacity];
+        nameCode = new int[initialCapacity];
+        elementCode = new int[initialCapacity];
+        aiCode = new int[initialCapacity];
+        abilitySetId = new int[initialCapacity];
+        lootTableId = new int[initialCapacity];
+        // id 0 is "no loot"
+        lootTables.intern(null);
+    }
+
+    // ------------------------------------------------------------
+    // Insertion
+    // ------------------------------------------------------------
+
+    /**
+     * Copies {@code enemy}'s current state into a new row.
+     *
+     * @return the new row index
+     */
+    public int insert(Enemy enemy) {
+        if (enemy == null) {
+            throw new IllegalArgumentException("Enemy must not be null");
+        }
+        return insert(enemy, 1);
+    }
+
+    /**
+     * Inserts {@code count} copies of a registry template without cloning it.
+     * Codes are interned once; the rows are then filled column by column.
+     *
+     * @return index of the first inserted row
+     */
+    public int insertFromTemplate(EnemyRegistry registry, String key, int count) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry must not be null");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must be >= 0");
+        }
+        return insert(registry.getTemplate(key), count);
+    }
+
+    private int insert(Enemy template, int count) {
+        int from = size;
+        int to = from + count;
+        ensureCapacity(to);
+
+        Arrays.fill(health, from, to, template.getHealth());
+        Arrays.fill(damage, from, to, template.getDamage());
+        Arrays.fill(defense, from, to, template.getDefense());
+        Arrays.fill(speed, from, to, template.getSpeed());
+        Arrays.fill(nameCode, from, to, strings.intern(template.getName()));
+        Arrays.fill(elementCode, from, to, strings.intern(template.getElement()));
+        Arrays.fill(aiCode, from, to, strings.intern(template.getAiBehavior()));
+        Arrays.fill(abilitySetId, from, to, RowSupport.internAbilities(abilitySets, template.getAbilities()));
+        Arrays.fill(lootTableId, from, to, lootTables.intern(template.getLootTable()));
+
+        size = to;
+        return from;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= health.length) {
+            return;
+        }
+        int capacity = Math.max(required, health.length + (health.length >> 1));
+        health = Arrays.copyOf(health, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        defense = Arrays.copyOf(defense, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        nameCode = Arrays.copyOf(nameCode, capacity);
+        elementCode = Arrays.copyOf(elementCode, capacity);
+        aiCode = Arrays.copyOf(aiCode, capacity);
+        abilitySetId = Arrays.copyOf(abilitySetId, capacity);
+        lootTableId = Arrays.copyOf(lootTableId, capacity);
+    }
+
+    /**
+     * Removes a row by moving the last row into its place.
+     * Row indices (and views) of the moved row change.
+     *
+     * @return the old index of the row that moved into {@code row}, or -1 if none moved
+     */
+    public int removeSwap(int row) {
+        checkRow(row);
+        int last = --size;
+        if (row == last) {
+            return -1;
+        }
+        health[row] = health[last];
+        damage[row] = damage[last];
+        defense[row] = defense[last];
+        speed[row] = speed[last];
+        nameCode[row] = nameCode[last];
+        elementCode[row] = elementCode[last];
+        aiCode[row] = aiCode[last];
+        abilitySetId[row] = abilitySetId[last];
+        lootTableId[row] = lootTableId[last];
+        return last;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    // ------------------------------------------------------------
+    // Row access
+    // ------------------------------------------------------------
+
+    public int size() {
+        return size;
+    }
+
+    public int getHealth(int row) {
+        checkRow(row);
+        return health[row];
+    }
+
+    public int getDamage(int row) {
+        checkRow(row);
+        return damage[row];
+    }
+
+    public int getDefense(int row) {
+        checkRow(row);
+        return defense[row];
+    }
+
+    public int getSpeed(int row) {
+        checkRow(row);
+        return speed[row];
+    }
+
+    public String getName(int row) {
+        checkRow(row);
+        return strings.valueOf(nameCode[row]);
+    }
+
+    public String getElement(int row) {
+        checkRow(row);
+        return strings.valueOf(elementCode[row]);
+    }
+
+    public String getAiBehavior(int row) {
+        checkRow(row);
+        return strings.valueOf(aiCode[row]);
+    }
+
+    /**
+     * @return the shared, unmodifiable ability list of the row
+     */
+    public List<Ability> getAbilities(int row) {
+        checkRow(row);
+        return abilitySets.valueOf(abilitySetId[row]);
+    }
+
+    public LootTable getLootTable(int row) {
+        checkRow(row);
+        return lootTables.valueOf(lootTableId[row]);
+    }
+
+    public int getAbilitySetId(int row) {
+        checkRow(row);
+        return abilitySetId[row];
+    }
+
+    public void setHealth(int row, int value) {
+        checkRow(row);
+        health[row] = value;
+    }
+
+    /**
+     * @return the code used for {@code value} in the element/AI/name columns,
+     *         or -1 if no row has ever used it
+     */
+    public int codeOf(String value) {
+        return strings.codeOf(value);
+    }
+
+    /**
+     * @return a read-only Enemy view of {@code row}; it follows later changes to the row
+     */
+    public Enemy view(int row) {
+        checkRow(row);
+        return new EnemyView(this, row);
+    }
+
+    /**
+     * @return an independent Goblin holding the row's current state
+     * @throws IllegalStateException if the row is dead (health <= 0); a Goblin cannot hold that state
+     */
+    public Goblin materialize(int row) {
+        checkRow(row);
+        return RowSupport.materialize(new EnemyView(this, row), row);
+    }
+
+    // ------------------------------------------------------------
+    // Bulk operations (linear passes over columns)
+    // ------------------------------------------------------------
+
+    /**
+     * Subtracts {@code amount} minus each row's defense (at least 0) from health.
+     */
+    public void damageAll(int amount) {
+        int[] h = health;
+        int[] d = defense;
+        for (int i = 0; i < size; i++) {
+            int taken = amount - d[i];
+            if (taken > 0) {
+                h[i] -= taken;
+            }
+        }
+    }
+
+    public int countAlive() {
+        int[] h = health;
+        int alive = 0;
+        for (int i = 0; i < size; i++) {
+            if (h[i] > 0) {
+                alive++;
+            }
+        }
+        return alive;
+    }
+
+    public long totalHealth() {
+        int[] h = health;
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += h[i];
+        }
+        return total;
+    }
+
+    /**
+     * Calls {@code action} with every row whose element is {@code element}.
+     */
+    public void forEachWithElement(String element, IntConsumer action) {
+        int code = strings.codeOf(element);
+        if (code < 0) {
+            return;
+        }
+        int[] e = elementCode;
+        for (int i = 0; i < size; i++) {
+            if (e[i] == code) {
+                action.accept(i);
+            }
+        }
+    }
+
+    void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + size);
+        }
+    }
+}
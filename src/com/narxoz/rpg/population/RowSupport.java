@@ -0,0 +1,88 @@
+package com.narxoz.rpg.population;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.Goblin;
+import com.narxoz.rpg.loot.LootTable;
+import com.narxoz.rpg.prototype.CloneSupport;
+import com.narxoz.rpg.render.TextOutput;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Row handling shared by PopulationStore and OffHeapEnemyStore. A row is
+ * read through its Enemy view (EnemyView or OffHeapEnemyStore.Cursor), so
+ * both stores render and materialize rows the same way.
+ */
+final class RowSupport {
+
+    private RowSupport() {
+    }
+
+    /**
+     * Interns a private, unmodifiable copy of {@code abilities}, so later
+     * changes to the source enemy do not leak into the store.
+     *
+     * @return the ability-set id
+     */
+    static int internAbilities(SymbolTable<List<Ability>> abilitySets, List<Ability> abilities) {
+        int id = abilitySets.codeOf(abilities);
+        if (id >= 0) {
+            return id;
+        }
+        List<Ability> copy = new ArrayList<>(abilities.size());
+        for (Ability ability : abilities) {
+            copy.add(CloneSupport.copyOf(ability));
+        }
+        return abilitySets.intern(Collections.unmodifiableList(copy));
+    }
+
+    /**
+     * @return an independent Goblin holding the row's current state
+     * @throws IllegalStateException if the row is dead (health <= 0); a Goblin cannot hold that state
+     */
+    static Goblin materialize(Enemy view, int row) {
+        int health = view.getHealth();
+        if (health <= 0) {
+            throw new IllegalStateException("Row " + row + " is dead (health " + health + ") and cannot be materialized");
+        }
+        Goblin goblin = new Goblin(view.getName());
+        goblin.setStats(health, view.getDamage(), view.getDefense(), view.getSpeed());
+        goblin.setElement(view.getElement());
+        goblin.setAI(view.getAiBehavior());
+        for (Ability ability : view.getAbilities()) {
+            goblin.addAbility(CloneSupport.copyOf(ability));
+        }
+        goblin.setLootTable(CloneSupport.copyOf(view.getLootTable()));
+        return goblin;
+    }
+
+    /**
+     * Renders a row in Goblin's layout, with the row index in the header
+     * instead of the class name. Works for dead rows too.
+     */
+    static void render(Enemy view, int row, Appendable out) throws IOException {
+        List<Ability> abilities = view.getAbilities();
+        LootTable loot = view.getLootTable();
+
+        out.append("=== ").append(view.getName()).append(" (row ");
+        TextOutput.appendInt(out, row).append(") ===\n");
+        out.append("Health: ");
+        TextOutput.appendInt(out, view.getHealth()).append(" | Damage: ");
+        TextOutput.appendInt(out, view.getDamage()).append(" | Defense: ");
+        TextOutput.appendInt(out, view.getDefense()).append(" | Speed: ");
+        TextOutput.appendInt(out, view.getSpeed()).append('\n');
+        out.append("Element: ").append(view.getElement()).append(" | AI: ").append(view.getAiBehavior()).append('\n');
+
+        out.append("Abilities (");
+        TextOutput.appendInt(out, abilities.size()).append("):\n");
+        for (Ability a : abilities) {
+            out.append("  - ").append(a.getName()).append(": ").append(a.getDescription()).append('\n');
+        }
+
+        out.append("Loot: ").append(loot != null ? loot.getLootInfo() : "None").append('\n');
+    }
+}
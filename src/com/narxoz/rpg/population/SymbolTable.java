@@ -0,0 +1,53 @@
+package com.narxoz.rpg.population;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interns values to dense int codes so columns can store an int instead of
+ * a reference. Code lookups are array reads; interning is a hash lookup and
+ * only happens on insert.
+ *
+ * Not thread-safe; owned by one PopulationStore.
+ */
+final class SymbolTable<T> {
+
+    private final Map<T, Integer> codes;
+    private final List<T> values = new ArrayList<>();
+
+    SymbolTable(Map<T, Integer> codes) {
+        this.codes = codes;
+    }
+
+    static <T> SymbolTable<T> byEquality() {
+        return new SymbolTable<>(new HashMap<>());
+    }
+
+    int intern(T value) {
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            values.add(value);
+            codes.put(value, code);
+        }
+        return code;
+    }
+
+    /**
+     * @return the code of {@code value}, or -1 if it was never interned
+     */
+    int codeOf(T value) {
+        Integer code = codes.get(value);
+        return code == null ? -1 : code;
+    }
+
+    T valueOf(int code) {
+        return values.get(code);
+    }
+
+    int size() {
+        return values.size();
+    }
+}
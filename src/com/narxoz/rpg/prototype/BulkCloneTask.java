@@ -0,0 +1,45 @@
+package com.narxoz.rpg.prototype;
+
+import com.narxoz.rpg.enemy.Enemy;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join task that fills a range of an array with clones of one template.
+ * Ranges are halved until they drop below {@link #LEAF_SIZE}.
+ */
+class BulkCloneTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int LEAF_SIZE = 512;
+
+    private final Enemy template;
+    private final Enemy[] out;
+    private final int from;
+    private final int to;
+
+    BulkCloneTask(Enemy template, Enemy[] out, int from, int to) {
+        this.template = template;
+        this.out = out;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= LEAF_SIZE) {
+            cloneRange(template, out, from, to);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        invokeAll(new BulkCloneTask(template, out, from, mid),
+                new BulkCloneTask(template, out, mid, to));
+    }
+
+    static void cloneRange(Enemy template, Enemy[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = template.clone();
+        }
+    }
+}
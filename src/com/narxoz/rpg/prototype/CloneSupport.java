@@ -0,0 +1,34 @@
+package com.narxoz.rpg.prototype;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.loot.LootTable;
+
+/**
+ * Clone strategy shared by the enemy implementations.
+ *
+ * Components marked {@link Immutable} are shared between template and clone;
+ * everything else is deep-copied through its own clone() method.
+ */
+public final class CloneSupport {
+
+    private CloneSupport() {
+    }
+
+    public static Ability copyOf(Ability ability) {
+        if (ability == null || ability instanceof Immutable) {
+            return ability;
+        }
+        return ability.clone();
+    }
+
+    public static LootTable copyOf(LootTable lootTable) {
+        if (lootTable == null || lootTable instanceof Immutable) {
+            return lootTable;
+        }
+        return lootTable.clone();
+    }
+
+    public static boolean isShareable(Object component) {
+        return component == null || component instanceof Immutable;
+    }
+}
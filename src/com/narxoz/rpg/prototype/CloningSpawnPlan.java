@@ -0,0 +1,20 @@
+package com.narxoz.rpg.prototype;
+
+import com.narxoz.rpg.enemy.Enemy;
+
+/**
+ * Fallback plan for enemy types without a specialised plan: delegates to clone().
+ */
+class CloningSpawnPlan extends SpawnPlan {
+
+    private final Enemy template;
+
+    CloningSpawnPlan(Enemy template) {
+        this.template = template;
+    }
+
+    @Override
+    public Enemy spawn() {
+        return template.clone();
+    }
+}
@@ -0,0 +1,133 @@
+package com.narxoz.rpg.prototype;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.Goblin;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Recycling pool for short-lived Goblin-class enemies.
+ *
+ * Instead of cloning a fresh Goblin for every spawn, acquire() hands out a
+ * previously released instance and re-initialises it from the registry
+ * template through the regular Goblin setters (setName, setStats,
+ * setElement, setAI, addAbility, setLootTable).
+ *
+ * Released goblins go to a small per-thread cache first and then to a bounded
+ * shared pool. When both are full the goblin is simply dropped for the GC.
+ *
+ * The template is captured when the pool is created; re-registering the key
+ * in the registry afterwards does not affect this pool.
+ * A goblin must not be used after it has been released.
+ *
+ * Double release:
+ * The pool tracks which goblins it currently holds, so releasing the same
+ * goblin again before it has been re-acquired fails with
+ * IllegalStateException instead of handing one instance to two callers.
+ */
+public class EnemyPool {
+
+    public static final int DEFAULT_THREAD_CACHE_SIZE = 64;
+
+    private final Goblin template;
+    private final Ability[] templateAbilities;
+
+    private final ArrayBlockingQueue<Goblin> shared;
+    private final int threadCacheSize;
+    private final ThreadLocal<ArrayDeque<Goblin>> threadCache;
+    private final Set<Goblin> pooled = ConcurrentHashMap.newKeySet();
+
+    public EnemyPool(EnemyRegistry registry, String key, int maxPooled) {
+        this(registry, key, maxPooled, DEFAULT_THREAD_CACHE_SIZE);
+    }
+
+    public EnemyPool(EnemyRegistry registry, String key, int maxPooled, int threadCacheSize) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry must not be null");
+        }
+        if (maxPooled <= 0) {
+            throw new IllegalArgumentException("Max pooled must be > 0");
+        }
+        if (threadCacheSize < 0) {
+            throw new IllegalArgumentException("Thread cache size must be >= 0");
+        }
+        Enemy registered = registry.getTemplate(key);
+        if (!(registered instanceof Goblin)) {
+            throw new IllegalArgumentException("Template '" + key + "' is not a Goblin");
+        }
+
+        this.template = (Goblin) registered;
+        List<Ability> abilities = template.getAbilities();
+        this.templateAbilities = abilities.toArray(new Ability[0]);
+
+        this.shared = new ArrayBlockingQueue<>(maxPooled);
+        this.threadCacheSize = threadCacheSize;
+        this.threadCache = ThreadLocal.withInitial(() -> new ArrayDeque<>(threadCacheSize));
+    }
+
+    /**
+     * @return a goblin initialised exactly like a fresh clone of the template
+     */
+    public Goblin acquire() {
+        Goblin goblin = threadCache.get().pollLast();
+        if (goblin == null) {
+            goblin = shared.poll();
+        }
+        if (goblin == null) {
+            return (Goblin) template.clone();
+        }
+        pooled.remove(goblin);
+        reinitialise(goblin);
+        return goblin;
+    }
+
+    /**
+     * Returns a goblin to the pool. Non-Goblin enemies are rejected.
+     *
+     * @throws IllegalStateException if the goblin is already in the pool
+     */
+    public void release(Enemy enemy) {
+        if (!(enemy instanceof Goblin)) {
+            throw new IllegalArgumentException("Only Goblin instances can be pooled");
+        }
+        Goblin goblin = (Goblin) enemy;
+        if (!pooled.add(goblin)) {
+            throw new IllegalStateException("Goblin '" + goblin.getName() + "' has already been released");
+        }
+
+        ArrayDeque<Goblin> local = threadCache.get();
+        if (local.size() < threadCacheSize) {
+            local.addLast(goblin);
+            return;
+        }
+        if (!shared.offer(goblin)) {
+            pooled.remove(goblin);
+        }
+    }
+
+    /**
+     * @return number of goblins waiting in the shared pool (thread caches excluded)
+     */
+    public int sharedSize() {
+        return shared.size();
+    }
+
+    private void reinitialise(Goblin goblin) {
+        goblin.setName(template.getName());
+        goblin.setStats(template.getHealth(), template.getDamage(),
+                template.getDefense(), template.getSpeed());
+        goblin.setElement(template.getElement());
+        goblin.setAI(template.getAiBehavior());
+
+        goblin.clearAbilities();
+        for (Ability ability : templateAbilities) {
+            goblin.addAbility(CloneSupport.copyOf(ability));
+        }
+        goblin.setLootTable(CloneSupport.copyOf(template.getLootTable()));
+    }
+}
@@ -2,58 +2,303 @@ package com.narxoz.rpg.prototype;
 
 import com.narxoz.rpg.enemy.Enemy;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
+/**
+ * Registry of enemy prototypes.
+ *
+ * Thread-safety:
+ * Templates are kept in an immutable snapshot that is replaced (copy-on-write)
+ * on every modification. Readers — createFromTemplate, listTemplates, hasTemplate —
+ * only read the current volatile snapshot and never block, so one registry
+ * can be shared by many spawner threads. Writers are serialized on the
+ * registry monitor. Insertion order of keys is preserved.
+ *
+ * Registered templates must not be mutated afterwards; clone them instead.
+ *
+ * Lazy templates:
+ * registerLazyTemplate stores a loader instead of an enemy. The loader runs
+ * once, on the first createFromTemplate/getTemplate for that key
+ * (see TemplateStore for the binary on-disk catalog that uses this).
+ *
+ * Variants:
+ * registerVariant stores a variant as a TemplateDelta over a parent key.
+ * The full enemy is resolved on first spawn and cached until the next
+ * registration, which may have replaced one of its ancestors.
+ *
+ * Handles:
+ * handleOf(key) resolves a key once to an int handle. createFromHandle and
+ * getTemplate(handle) then skip key validation and hashing and read the
+ * template straight from an array. A handle stays valid for its key across
+ * re-registration; clear() invalidates all handles.
+ *
+ * Bulk spawning:
+ * createFromTemplate(key, count) and its array/collection overloads resolve
+ * the template once and clone it count times. Batches of at least
+ * PARALLEL_THRESHOLD enemies are split across the common ForkJoin pool.
+ */
 public class EnemyRegistry {
 
-    private final Map<String, Enemy> templates = new LinkedHashMap<>();
+    /** Batches smaller than this are cloned on the calling thread. */
+    public static final int PARALLEL_THRESHOLD = 2048;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
 
     public void registerTemplate(String key, Enemy prototype) {
-        if (key == null || key.trim().isEmpty()) {
-            throw new IllegalArgumentException("Template key must not be null/blank");
-        }
+        validateKey(key);
         if (prototype == null) {
             throw new IllegalArgumentException("Prototype must not be null");
         }
-        templates.put(key, prototype);
+        publish(Collections.singletonMap(key, new TemplateEntry(prototype)));
+    }
+
+    /**
+     * Registers a template that is only built on first use.
+     */
+    public void registerLazyTemplate(String key, Supplier<? extends Enemy> loader) {
+        validateKey(key);
+        if (loader == null) {
+            throw new IllegalArgumentException("Loader must not be null");
+        }
+        publish(Collections.singletonMap(key, new TemplateEntry(loader)));
+    }
+
+    /**
+     * Registers {@code key} as {@code parentKey} with {@code delta} applied.
+     * Variants may be chained (a variant's parent can itself be a variant).
+     */
+    public void registerVariant(String key, String parentKey, TemplateDelta delta) {
+        validateKey(key);
+        validateKey(parentKey);
+        if (delta == null) {
+            throw new IllegalArgumentException("Delta must not be null");
+        }
+        synchronized (this) {
+            String ancestor = parentKey;
+            while (ancestor != null) {
+                if (ancestor.equals(key)) {
+                    throw new IllegalArgumentException("Variant '" + key + "' would inherit from itself");
+                }
+                TemplateEntry entry = snapshot.entry(ancestor);
+                if (entry == null) {
+                    throw new IllegalArgumentException("Unknown template key: " + ancestor);
+                }
+                ancestor = entry.parentKey();
+            }
+            publish(Collections.singletonMap(key,
+                    new TemplateEntry(() -> delta.applyTo(resolve(parentKey)), parentKey)));
+        }
+    }
+
+    /**
+     * Publishes many entries with a single snapshot copy.
+     */
+    synchronized void publish(Map<String, TemplateEntry> entries) {
+        Snapshot current = snapshot;
+        Map<String, Integer> index = new LinkedHashMap<>(current.index);
+        TemplateEntry[] slots = Arrays.copyOf(current.entries, current.entries.length + entries.size());
+        int size = current.entries.length;
+
+        for (int i = 0; i < size; i++) {
+            if (slots[i].isVariant()) {
+                slots[i] = slots[i].reset();
+            }
+        }
+        for (Map.Entry<String, TemplateEntry> e : entries.entrySet()) {
+            Integer handle = index.get(e.getKey());
+            if (handle == null) {
+                handle = size++;
+                index.put(e.getKey(), handle);
+            }
+            slots[handle] = e.getValue();
+        }
+        snapshot = new Snapshot(index, Arrays.copyOf(slots, size));
     }
 
     public Enemy createFromTemplate(String key) {
-        if (key == null || key.trim().isEmpty()) {
-            throw new IllegalArgumentException("Template key must not be null/blank");
+        return resolve(key).clone();
+    }
+
+    /**
+     * Spawns {@code count} independent clones of one template.
+     *
+     * @return a new list of exactly {@code count} enemies
+     */
+    public List<Enemy> createFromTemplate(String key, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must be >= 0");
+        }
+        Enemy[] spawned = new Enemy[count];
+        createFromTemplate(key, spawned);
+        return Arrays.asList(spawned);
+    }
+
+    /**
+     * Fills every slot of {@code out} with a fresh clone of the template.
+     */
+    public void createFromTemplate(String key, Enemy[] out) {
+        if (out == null) {
+            throw new IllegalArgumentException("Output array must not be null");
+        }
+        createFromTemplate(key, out, 0, out.length);
+    }
+
+    /**
+     * Fills {@code out[from, to)} with fresh clones of the template.
+     */
+    public void createFromTemplate(String key, Enemy[] out, int from, int to) {
+        if (out == null) {
+            throw new IllegalArgumentException("Output array must not be null");
+        }
+        if (from < 0 || to > out.length || from > to) {
+            throw new IndexOutOfBoundsException("Invalid range [" + from + ", " + to + ") for length " + out.length);
+        }
+        Enemy template = resolve(key);
+
+        if (to - from < PARALLEL_THRESHOLD) {
+            BulkCloneTask.cloneRange(template, out, from, to);
+        } else {
+            ForkJoinPool.commonPool().invoke(new BulkCloneTask(template, out, from, to));
         }
+    }
+
+    /**
+     * Appends {@code count} fresh clones of the template to {@code out}.
+     */
+    public void createFromTemplate(String key, int count, Collection<? super Enemy> out) {
+        if (out == null) {
+            throw new IllegalArgumentException("Output collection must not be null");
+        }
+        out.addAll(createFromTemplate(key, count));
+    }
 
-        Enemy template = templates.get(key);
-        if (template == null) {
+    /**
+     * Compiles the current template for {@code key} into a {@link SpawnPlan}.
+     * The plan does not follow later re-registrations of the key.
+     */
+    public SpawnPlan compileTemplate(String key) {
+        return SpawnPlan.compile(resolve(key));
+    }
+
+    /**
+     * @return the registered template itself (not a clone); it must not be modified
+     */
+    public Enemy getTemplate(String key) {
+        return resolve(key);
+    }
+
+    /**
+     * @return true if the template for {@code key} has been materialised
+     */
+    public boolean isLoaded(String key) {
+        TemplateEntry entry = snapshot.entry(key);
+        return entry != null && entry.isLoaded();
+    }
+
+    /**
+     * Resolves {@code key} to a handle for the handle-based lookups.
+     */
+    public int handleOf(String key) {
+        validateKey(key);
+
+        Integer handle = snapshot.index.get(key);
+        if (handle == null) {
+            throw new IllegalArgumentException("Unknown template key: " + key);
+        }
+        return handle;
+    }
+
+    public Enemy createFromHandle(int handle) {
+        return getTemplate(handle).clone();
+    }
+
+    /**
+     * @return the registered template itself (not a clone); it must not be modified
+     */
+    public Enemy getTemplate(int handle) {
+        TemplateEntry[] entries = snapshot.entries;
+        if (handle < 0 || handle >= entries.length) {
+            throw new IllegalArgumentException("Invalid template handle: " + handle);
+        }
+        return entries[handle].get();
+    }
+
+    private Enemy resolve(String key) {
+        validateKey(key);
+
+        TemplateEntry entry = snapshot.entry(key);
+        if (entry == null) {
             throw new IllegalArgumentException("Unknown template key: " + key);
         }
+        return entry.get();
+    }
 
-        return template.clone(); 
+    private static void validateKey(String key) {
+        if (key == null || key.trim().isEmpty()) {
+            throw new IllegalArgumentException("Template key must not be null/blank");
+        }
     }
 
 
     public Set<String> listTemplates() {
-        return Collections.unmodifiableSet(templates.keySet());
+        return snapshot.index.keySet();
     }
 
-   
+
     public boolean hasTemplate(String key) {
-        return templates.containsKey(key);
+        return snapshot.index.containsKey(key);
     }
 
- 
+
     public int size() {
-        return templates.size();
+        return snapshot.entries.length;
     }
 
-    public void clear() {
-        templates.clear();
+    public synchronized void clear() {
+        snapshot = Snapshot.EMPTY;
     }
 
+    /**
+     * Materialises every lazy template.
+     *
+     * @return a copy of the current snapshot; later registrations are not reflected in it
+     */
     public Map<String, Enemy> getTemplatesView() {
-        return Collections.unmodifiableMap(templates);
+        Snapshot current = snapshot;
+        Map<String, Enemy> view = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> e : current.index.entrySet()) {
+            view.put(e.getKey(), current.entries[e.getValue()].get());
+        }
+        return Collections.unmodifiableMap(view);
+    }
+
+    /**
+     * Immutable registry state: key → handle in insertion order, and the
+     * entry for each handle.
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new LinkedHashMap<>(), new TemplateEntry[0]);
+
+        final Map<String, Integer> index;
+        final TemplateEntry[] entries;
+
+        Snapshot(Map<String, Integer> index, TemplateEntry[] entries) {
+            this.index = Collections.unmodifiableMap(index);
+            this.entries = entries;
+        }
+
+        TemplateEntry entry(String key) {
+            Integer handle = index.get(key);
+            return handle == null ? null : entries[handle];
+        }
     }
 }
@@ -0,0 +1,63 @@
+package com.narxoz.rpg.prototype;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.Goblin;
+import com.narxoz.rpg.loot.LootTable;
+
+import java.util.List;
+
+class GoblinSpawnPlan extends SpawnPlan {
+
+    private final String name;
+    private final int health;
+    private final int damage;
+    private final int defense;
+    private final int speed;
+    private final String element;
+    private final String aiBehavior;
+
+    private final Ability[] abilities;
+    private final boolean abilitiesShareable;
+    private final LootTable lootTable;
+
+    GoblinSpawnPlan(Goblin template) {
+        this.name = template.getName();
+        this.health = template.getHealth();
+        this.damage = template.getDamage();
+        this.defense = template.getDefense();
+        this.speed = template.getSpeed();
+        this.element = template.getElement();
+        this.aiBehavior = template.getAiBehavior();
+
+        List<Ability> templateAbilities = template.getAbilities();
+        this.abilities = templateAbilities.toArray(new Ability[0]);
+
+        boolean shareable = true;
+        for (Ability ability : abilities) {
+            shareable &= CloneSupport.isShareable(ability);
+        }
+        this.abilitiesShareable = shareable;
+        this.lootTable = template.getLootTable();
+    }
+
+    @Override
+    public Enemy spawn() {
+        Goblin goblin = new Goblin(name);
+        goblin.setStats(health, damage, defense, speed);
+        goblin.setElement(element);
+        goblin.setAI(aiBehavior);
+
+        if (abilitiesShareable) {
+            for (Ability ability : abilities) {
+                goblin.addAbility(ability);
+            }
+        } else {
+            for (Ability ability : abilities) {
+                goblin.addAbility(CloneSupport.copyOf(ability));
+            }
+        }
+        goblin.setLootTable(CloneSupport.copyOf(lootTable));
+        return goblin;
+    }
+}
@@ -0,0 +1,17 @@
+package com.narxoz.rpg.prototype;
+
+/**
+ * Marker for enemy components (abilities, loot tables) whose state can never
+ * change after construction.
+ *
+ * Prototype Pattern Note:
+ * Deep copying exists to stop a clone and its template from affecting each
+ * other. An immutable component cannot be modified by either side, so a clone
+ * may safely share the template's instance instead of copying it.
+ * See {@link CloneSupport}.
+ *
+ * Only implement this if every field is final and no getter exposes
+ * internal mutable state.
+ */
+public interface Immutable {
+}
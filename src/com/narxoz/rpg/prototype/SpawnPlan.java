@@ -0,0 +1,40 @@
+package com.narxoz.rpg.prototype;
+
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.Goblin;
+
+/**
+ * A registered template compiled into a form that is cheap to spawn from.
+ *
+ * compile() reads the template once and keeps only what spawn() needs:
+ * primitive stats, interned strings and pre-resolved component references.
+ * Immutable components are shared, mutable ones are deep-copied on every spawn.
+ *
+ * A plan is a snapshot: later changes to the template are not picked up.
+ * Plans are immutable and safe to share between threads.
+ */
+public abstract class SpawnPlan {
+
+    public static SpawnPlan compile(Enemy template) {
+        if (template == null) {
+            throw new IllegalArgumentException("Template must not be null");
+        }
+        if (template instanceof Goblin) {
+            return new GoblinSpawnPlan((Goblin) template);
+        }
+        // DragonBoss is immutable: its clone() is already a flat field copy
+        // that shares the ability list, phase map and immutable loot.
+        return new CloningSpawnPlan(template);
+    }
+
+    public abstract Enemy spawn();
+
+    /**
+     * Fills every slot of {@code out} with a freshly spawned enemy.
+     */
+    public void spawn(Enemy[] out) {
+        for (int i = 0; i < out.length; i++) {
+            out[i] = spawn();
+        }
+    }
+}
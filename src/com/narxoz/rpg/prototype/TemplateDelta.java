@@ -0,0 +1,147 @@
+package com.narxoz.rpg.prototype;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.DragonBoss;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.Goblin;
+import com.narxoz.rpg.loot.LootTable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The difference between a variant and its parent template:
+ * an optional new name, a stat multiplier, extra abilities and an optional
+ * replacement loot table.
+ *
+ * Used by EnemyRegistry.registerVariant to store tiers such as
+ * Base Goblin → Elite Goblin → Goblin Champion → Goblin King as small deltas
+ * that are only applied when the variant is first spawned.
+ *
+ * Stats are scaled exactly like Goblin.multiplyStats; for a DragonBoss the
+ * phase thresholds are scaled with the health so phases keep their meaning.
+ */
+public final class TemplateDelta {
+
+    private final String name;
+    private final double statMultiplier;
+    private final List<Ability> addedAbilities;
+    private final LootTable lootTable;
+
+    private TemplateDelta(Builder b) {
+        this.name = b.name;
+        this.statMultiplier = b.statMultiplier;
+        this.addedAbilities = Collections.unmodifiableList(new ArrayList<>(b.addedAbilities));
+        this.lootTable = b.lootTable;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getStatMultiplier() {
+        return statMultiplier;
+    }
+
+    public List<Ability> getAddedAbilities() {
+        return addedAbilities;
+    }
+
+    public LootTable getLootTable() {
+        return lootTable;
+    }
+
+    /**
+     * @return a new enemy: {@code parent} with this delta applied; parent is not modified
+     */
+    public Enemy applyTo(Enemy parent) {
+        if (parent instanceof Goblin) {
+            Goblin variant = (Goblin) parent.clone();
+            if (name != null) {
+                variant.setName(name);
+            }
+            if (statMultiplier != 1.0) {
+                variant.multiplyStats(statMultiplier);
+            }
+            for (Ability ability : addedAbilities) {
+                variant.addAbility(CloneSupport.copyOf(ability));
+            }
+            if (lootTable != null) {
+                variant.setLootTable(CloneSupport.copyOf(lootTable));
+            }
+            return variant;
+        }
+        if (parent instanceof DragonBoss) {
+            DragonBoss boss = (DragonBoss) parent;
+            DragonBoss.Builder b = boss.toBuilder();
+            if (name != null) {
+                b.setName(name);
+            }
+            if (statMultiplier != 1.0) {
+                b.setHealth(scale(boss.getHealth()))
+                        .setDamage(scale(boss.getDamage()))
+                        .setDefense(scale(boss.getDefense()))
+                        .setSpeed(scale(boss.getSpeed()));
+                for (Map.Entry<Integer, Integer> phase : boss.getPhases().entrySet()) {
+                    b.addPhase(phase.getKey(), scale(phase.getValue()));
+                }
+            }
+            for (Ability ability : addedAbilities) {
+                b.addAbility(CloneSupport.copyOf(ability));
+            }
+            if (lootTable != null) {
+                b.setLootTable(CloneSupport.copyOf(lootTable));
+            }
+            return b.build();
+        }
+        throw new IllegalArgumentException("Variants are not supported for "
+                + parent.getClass().getSimpleName());
+    }
+
+    private int scale(int stat) {
+        return (int) Math.round(stat * statMultiplier);
+    }
+
+    public static class Builder {
+
+        private String name;
+        private double statMultiplier = 1.0;
+        private final List<Ability> addedAbilities = new ArrayList<>();
+        private LootTable lootTable;
+
+        public Builder setName(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder multiplyStats(double multiplier) {
+            if (multiplier <= 0) {
+                throw new IllegalArgumentException("Multiplier must be > 0");
+            }
+            this.statMultiplier = multiplier;
+            return this;
+        }
+
+        public Builder addAbility(Ability ability) {
+            if (ability != null) {
+                addedAbilities.add(ability);
+            }
+            return this;
+        }
+
+        public Builder setLootTable(LootTable lootTable) {
+            this.lootTable = lootTable;
+            return this;
+        }
+
+        public TemplateDelta build() {
+            return new TemplateDelta(this);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.narxoz.rpg.prototype;
+
+import com.narxoz.rpg.enemy.Enemy;
+
+import java.util.function.Supplier;
+
+/**
+ * One registry slot: either an eagerly registered template or a loader that
+ * materialises the template on first use. The loader runs at most once; after
+ * that reads are a single volatile load.
+ *
+ * Variant entries also remember their parent key; their cached template is
+ * dropped (see reset) whenever the registry publishes a new snapshot, because
+ * an ancestor may have changed.
+ */
+final class TemplateEntry {
+
+    private final Supplier<? extends Enemy> loader;
+    private final String parentKey;
+    private volatile Enemy template;
+
+    TemplateEntry(Enemy template) {
+        this.template = template;
+        this.loader = null;
+        this.parentKey = null;
+    }
+
+    TemplateEntry(Supplier<? extends Enemy> loader) {
+        this(loader, null);
+    }
+
+    TemplateEntry(Supplier<? extends Enemy> loader, String parentKey) {
+        this.loader = loader;
+        this.parentKey = parentKey;
+    }
+
+    String parentKey() {
+        return parentKey;
+    }
+
+    boolean isVariant() {
+        return parentKey != null;
+    }
+
+    /**
+     * @return an unresolved copy of this variant entry
+     */
+    TemplateEntry reset() {
+        return new TemplateEntry(loader, parentKey);
+    }
+
+    Enemy get() {
+        Enemy t = template;
+        if (t == null) {
+            synchronized (this) {
+                t = template;
+                if (t == null) {
+                    t = loader.get();
+                    if (t == null) {
+                        throw new IllegalStateException("Template loader returned null");
+                    }
+                    template = t;
+                }
+            }
+        }
+        return t;
+    }
+
+    boolean isLoaded() {
+        return template != null;
+    }
+}
@@ -0,0 +1,326 @@
+package com.narxoz.rpg.prototype;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AbilityCatalog;
+import com.narxoz.rpg.enemy.DragonBoss;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.Goblin;
+import com.narxoz.rpg.loot.FireLootTable;
+import com.narxoz.rpg.loot.IceLootTable;
+import com.narxoz.rpg.loot.LootTable;
+import com.narxoz.rpg.loot.ShadowLootTable;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Versioned binary catalog of registry templates.
+ *
+ * write() serialises every template of a registry; load() memory-maps the file,
+ * reads only the key index and registers each template lazily, so enemies are
+ * decoded on their first createFromTemplate instead of at startup.
+ *
+ * File layout (big-endian):
+ * <pre>
+ *   int    magic    'RPGT'
+ *   short  version
+ *   int    count
+ *   count x index entry:  string key, int recordOffset
+ *   count x record:       byte kind, then the kind's fields
+ * </pre>
+ * Strings are stored as int length + UTF-8 bytes. Abilities and loot tables are
+ * stored by component code (ability name / loot table type). Abilities are
+ * read back as AbilityCatalog flyweights and loot tables are recreated
+ * through their no-arg constructors, so only the built-in components can be
+ * stored.
+ */
+public final class TemplateStore {
+
+    public static final int MAGIC = 0x52504754;
+    public static final short VERSION = 1;
+
+    private static final byte KIND_GOBLIN = 1;
+    private static final byte KIND_DRAGON_BOSS = 2;
+
+    private static final Map<String, Supplier<Ability>> ABILITIES = new LinkedHashMap<>();
+    private static final Map<String, Supplier<LootTable>> LOOT_TABLES = new LinkedHashMap<>();
+
+    static {
+        for (int id = 0; id < AbilityCatalog.SIZE; id++) {
+            Ability flyweight = AbilityCatalog.get(id);
+            ABILITIES.put(flyweight.getName(), () -> flyweight);
+        }
+
+        LOOT_TABLES.put("FIRE", FireLootTable::new);
+        LOOT_TABLES.put("ICE", IceLootTable::new);
+        LOOT_TABLES.put("SHADOW", ShadowLootTable::new);
+    }
+
+    private TemplateStore() {
+    }
+
+    // ------------------------------------------------------------
+    // Writing
+    // ------------------------------------------------------------
+
+    public static void write(EnemyRegistry registry, Path file) throws IOException {
+        Map<String, Enemy> templates = registry.getTemplatesView();
+
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream records = new DataOutputStream(recordBytes);
+        Map<String, Integer> offsets = new LinkedHashMap<>();
+        for (Map.Entry<String, Enemy> e : templates.entrySet()) {
+            offsets.put(e.getKey(), records.size());
+            writeEnemy(records, e.getKey(), e.getValue());
+        }
+
+        int indexSize = 0;
+        for (String key : offsets.keySet()) {
+            indexSize += 4 + utf8(key).length + 4;
+        }
+        int recordsStart = 4 + 2 + 4 + indexSize;
+
+        try (OutputStream fileOut = Files.newOutputStream(file);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut, 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(offsets.size());
+            for (Map.Entry<String, Integer> e : offsets.entrySet()) {
+                writeString(out, e.getKey());
+                out.writeInt(recordsStart + e.getValue());
+            }
+            recordBytes.writeTo(out);
+        }
+    }
+
+    private static void writeEnemy(DataOutputStream out, String key, Enemy enemy) throws IOException {
+        if (enemy instanceof Goblin) {
+            Goblin goblin = (Goblin) enemy;
+            out.writeByte(KIND_GOBLIN);
+            writeCommon(out, key, goblin, goblin.getElement(), goblin.getAiBehavior());
+        } else if (enemy instanceof DragonBoss) {
+            DragonBoss boss = (DragonBoss) enemy;
+            out.writeByte(KIND_DRAGON_BOSS);
+            writeCommon(out, key, boss, boss.getElement(), boss.getAiBehavior());
+
+            out.writeInt(boss.getPhases().size());
+            for (Map.Entry<Integer, Integer> phase : boss.getPhases().entrySet()) {
+                out.writeInt(phase.getKey());
+                out.writeInt(phase.getValue());
+            }
+            out.writeBoolean(boss.canFly());
+            out.writeBoolean(boss.hasBreathAttack());
+            out.writeInt(boss.getWingspan());
+        } else {
+            throw new IllegalArgumentException("Template '" + key + "' has unsupported type "
+                    + enemy.getClass().getSimpleName());
+        }
+    }
+
+    private static void writeCommon(DataOutputStream out, String key, Enemy enemy,
+                                    String element, String aiBehavior) throws IOException {
+        writeString(out, enemy.getName());
+        out.writeInt(enemy.getHealth());
+        out.writeInt(enemy.getDamage());
+        out.writeInt(enemy.getDefense());
+        out.writeInt(enemy.getSpeed());
+        writeString(out, element);
+        writeString(out, aiBehavior);
+
+        List<Ability> abilities = enemy.getAbilities();
+        out.writeInt(abilities.size());
+        for (Ability ability : abilities) {
+            if (ability == null || !ABILITIES.containsKey(ability.getName())) {
+                throw new IllegalArgumentException("Template '" + key + "' has an ability that cannot be stored: " + ability);
+            }
+            writeString(out, ability.getName());
+        }
+        writeString(out, lootCode(key, enemy.getLootTable()));
+    }
+
+    private static String lootCode(String key, LootTable lootTable) {
+        if (lootTable == null) {
+            return "";
+        }
+        if (lootTable instanceof FireLootTable) {
+            return "FIRE";
+        }
+        if (lootTable instanceof IceLootTable) {
+            return "ICE";
+        }
+        if (lootTable instanceof ShadowLootTable) {
+            return "SHADOW";
+        }
+        throw new IllegalArgumentException("Template '" + key + "' has a loot table that cannot be stored: "
+                + lootTable.getClass().getSimpleName());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = utf8(value);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] utf8(String value) {
+        return (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // ------------------------------------------------------------
+    // Loading
+    // ------------------------------------------------------------
+
+    /**
+     * Maps {@code file} and registers all of its templates lazily in {@code registry}.
+     * If the index names a key more than once, the last entry wins.
+     *
+     * @return number of distinct keys registered
+     */
+    public static int load(Path file, EnemyRegistry registry) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (mapped.remaining() < 10 || mapped.getInt() != MAGIC) {
+            throw new IOException("Not a template store: " + file);
+        }
+        short version = mapped.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported template store version " + version + " in " + file);
+        }
+
+        int count = mapped.getInt();
+        // Every index entry is at least an empty key (4) plus an offset (4).
+        if (count < 0 || count > mapped.remaining() / 8) {
+            throw new IOException("Corrupt template store: bad template count " + count + " in " + file);
+        }
+        Map<String, TemplateEntry> entries = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            String key = readString(mapped);
+            if (key.trim().isEmpty()) {
+                throw new IOException("Corrupt template store: blank template key in " + file);
+            }
+            if (mapped.remaining() < 4) {
+                throw new IOException("Corrupt template store: truncated index in " + file);
+            }
+            int offset = mapped.getInt();
+            if (offset < 0 || offset >= mapped.limit()) {
+                throw new IOException("Corrupt template store: bad record offset for '" + key + "' in " + file);
+            }
+            entries.put(key, new TemplateEntry(() -> decode(mapped, offset)));
+        }
+        registry.publish(entries);
+        return entries.size();
+    }
+
+    /**
+     * Records are decoded lazily, outside load(), so a corrupt record is
+     * reported as an unchecked IllegalStateException on first use.
+     */
+    private static Enemy decode(MappedByteBuffer mapped, int offset) {
+        try {
+            return decodeRecord(mapped, offset);
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            throw new IllegalStateException("Corrupt template store record at offset " + offset, e);
+        }
+    }
+
+    private static Enemy decodeRecord(MappedByteBuffer mapped, int offset) throws IOException {
+        ByteBuffer in = mapped.duplicate();
+        in.position(offset);
+
+        byte kind = in.get();
+        String name = readString(in);
+        int health = in.getInt();
+        int damage = in.getInt();
+        int defense = in.getInt();
+        int speed = in.getInt();
+        String element = readString(in);
+        String aiBehavior = readString(in);
+
+        int abilityCount = in.getInt();
+        if (abilityCount < 0 || abilityCount > in.remaining() / 4) {
+            throw new IOException("Corrupt template store: bad ability count " + abilityCount);
+        }
+        Ability[] abilities = new Ability[abilityCount];
+        for (int i = 0; i < abilityCount; i++) {
+            abilities[i] = component(ABILITIES, readString(in));
+        }
+        String lootCode = readString(in);
+        LootTable lootTable = lootCode.isEmpty() ? null : component(LOOT_TABLES, lootCode);
+
+        if (kind == KIND_GOBLIN) {
+            Goblin goblin = new Goblin(name);
+            goblin.setStats(health, damage, defense, speed);
+            goblin.setElement(element);
+            goblin.setAI(aiBehavior);
+            for (Ability ability : abilities) {
+                goblin.addAbility(ability);
+            }
+            goblin.setLootTable(lootTable);
+            return goblin;
+        }
+        if (kind == KIND_DRAGON_BOSS) {
+            DragonBoss.Builder b = DragonBoss.builder()
+                    .setName(name)
+                    .setHealth(health)
+                    .setDamage(damage)
+                    .setDefense(defense)
+                    .setSpeed(speed)
+                    .setElement(element)
+                    .setAI(aiBehavior)
+                    .setLootTable(lootTable);
+            for (Ability ability : abilities) {
+                b.addAbility(ability);
+            }
+            int phaseCount = in.getInt();
+            if (phaseCount < 0 || phaseCount > in.remaining() / 8) {
+                throw new IOException("Corrupt template store: bad phase count " + phaseCount);
+            }
+            for (int i = 0; i < phaseCount; i++) {
+                b.addPhase(in.getInt(), in.getInt());
+            }
+            return b.setCanFly(in.get() != 0)
+                    .setHasBreathAttack(in.get() != 0)
+                    .setWingspan(in.getInt())
+                    .build();
+        }
+        throw new IllegalStateException("Unknown record kind " + kind + " at offset " + offset);
+    }
+
+    private static <T> T component(Map<String, Supplier<T>> codes, String code) {
+        Supplier<T> factory = codes.get(code);
+        if (factory == null) {
+            throw new IllegalStateException("Unknown component code: " + code);
+        }
+        return factory.get();
+    }
+
+    private static String readString(ByteBuffer in) throws IOException {
+        if (in.remaining() < 4) {
+            throw new IOException("Corrupt template store: truncated string");
+        }
+        int length = in.getInt();
+        if (length < 0 || length > in.remaining()) {
+            throw new IOException("Corrupt template store: bad string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,80 @@
+package com.narxoz.rpg.random;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded source of independent random streams.
+ *
+ * Encounter streams:
+ * forEncounter(i) depends only on (seed, i). A parallel simulation that
+ * gives encounter i the stream forEncounter(i) produces the same numbers
+ * bit-for-bit no matter how the encounters are spread over threads.
+ * Derived streams are not shared, so there is no contention.
+ *
+ * Thread streams:
+ * forThread() gives each thread its own generator, split from the root on
+ * first use. It is cheap and contention-free but its numbers depend on
+ * which thread asks first, so it is not reproducible; use it for
+ * cosmetic randomness only.
+ *
+ * The returned SplittableRandom instances are not thread-safe; keep each
+ * one on a single thread (split() it to hand work to another thread).
+ */
+public final class RngService {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final SplittableRandom root;
+    private final ThreadLocal<SplittableRandom> threadStreams;
+
+    public RngService(long seed) {
+        this.seed = seed;
+        this.root = new SplittableRandom(seed);
+        this.threadStreams = ThreadLocal.withInitial(this::splitRoot);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return a new stream determined only by the seed and {@code index}
+     */
+    public SplittableRandom forEncounter(long index) {
+        return new SplittableRandom(streamSeed(index));
+    }
+
+    /**
+     * @return a new stream for (index, sub); e.g. one per combatant of an encounter
+     */
+    public SplittableRandom forEncounter(long index, int sub) {
+        return new SplittableRandom(mix64(streamSeed(index) + (sub + 1) * GOLDEN_GAMMA));
+    }
+
+    /**
+     * @return the calling thread's own stream (not reproducible, see class doc)
+     */
+    public SplittableRandom forThread() {
+        return threadStreams.get();
+    }
+
+    /**
+     * Seed of the stream forEncounter(index) would return, for callers that
+     * keep their own generator state.
+     */
+    public long streamSeed(long index) {
+        return mix64(seed + (index + 1) * GOLDEN_GAMMA);
+    }
+
+    private synchronized SplittableRandom splitRoot() {
+        return root.split();
+    }
+
+    /** SplitMix64 finaliser: spreads nearby inputs over the whole 64-bit range. */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
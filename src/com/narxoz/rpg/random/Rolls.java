@@ -0,0 +1,42 @@
+package com.narxoz.rpg.random;
+
+import com.narxoz.rpg.combat.ShadowStrike;
+import com.narxoz.rpg.loot.LootTable;
+
+import java.util.SplittableRandom;
+
+/**
+ * Common game rolls on a caller-supplied stream (see {@link RngService}).
+ * None of these allocate.
+ */
+public final class Rolls {
+
+    private Rolls() {
+    }
+
+    /**
+     * @return true with probability percent / 100
+     */
+    public static boolean chance(SplittableRandom random, int percent) {
+        return random.nextInt(100) < percent;
+    }
+
+    public static boolean critical(SplittableRandom random, ShadowStrike strike) {
+        return chance(random, strike.getCritChancePercent());
+    }
+
+    /**
+     * @return {@code value} scaled by a uniform factor in [100 - spread, 100 + spread] percent
+     */
+    public static int vary(SplittableRandom random, int value, int spreadPercent) {
+        return (int) ((long) value * (100 - spreadPercent + random.nextInt(2 * spreadPercent + 1)) / 100);
+    }
+
+    /**
+     * @return one item of the table, uniformly, or null if the table is empty
+     */
+    public static String lootItem(SplittableRandom random, LootTable table) {
+        int count = table.itemCount();
+        return count == 0 ? null : table.itemAt(random.nextInt(count));
+    }
+}
@@ -0,0 +1,121 @@
+package com.narxoz.rpg.render;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Appendable that batches text into a char buffer, encodes it as UTF-8 and
+ * writes it to a channel in large chunks. Nothing reaches the channel until
+ * a buffer fills up or flush() is called.
+ *
+ * Not thread-safe.
+ */
+public class ChannelAppendable implements Appendable {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final WritableByteChannel channel;
+    private final CharBuffer chars;
+    private final ByteBuffer bytes;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+
+    public ChannelAppendable(WritableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    public ChannelAppendable(WritableByteChannel channel, int bufferSize) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel must not be null");
+        }
+        if (bufferSize < 16) {
+            throw new IllegalArgumentException("Buffer size must be >= 16");
+        }
+        this.channel = channel;
+        this.chars = CharBuffer.allocate(bufferSize);
+        this.bytes = ByteBuffer.allocateDirect(bufferSize * 3);
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+        CharSequence text = csq == null ? "null" : csq;
+        return append(text, 0, text.length());
+    }
+
+    /**
+     * Copies the text into the char buffer a buffer-full at a time;
+     * String and StringBuilder are bulk-copied with getChars.
+     */
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+        CharSequence text = csq == null ? "null" : csq;
+        if (start < 0 || start > end || end > text.length()) {
+            throw new IndexOutOfBoundsException("Invalid range [" + start + ", " + end + ") for length " + text.length());
+        }
+        while (start < end) {
+            if (!chars.hasRemaining()) {
+                drain();
+            }
+            int n = Math.min(end - start, chars.remaining());
+            char[] dst = chars.array();
+            int pos = chars.position();
+            if (text instanceof String) {
+                ((String) text).getChars(start, start + n, dst, pos);
+            } else if (text instanceof StringBuilder) {
+                ((StringBuilder) text).getChars(start, start + n, dst, pos);
+            } else {
+                for (int i = 0; i < n; i++) {
+                    dst[pos + i] = text.charAt(start + i);
+                }
+            }
+            chars.position(pos + n);
+            start += n;
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+        if (!chars.hasRemaining()) {
+            drain();
+        }
+        chars.put(c);
+        return this;
+    }
+
+    /**
+     * Encodes and writes everything buffered so far.
+     */
+    public void flush() throws IOException {
+        drain();
+        writeBytes();
+    }
+
+    private void drain() throws IOException {
+        chars.flip();
+        while (true) {
+            CoderResult result = encoder.encode(chars, bytes, false);
+            if (result.isOverflow()) {
+                writeBytes();
+            } else if (result.isUnderflow()) {
+                break;
+            } else {
+                result.throwException();
+            }
+        }
+        // keep a dangling high surrogate for the next round
+        chars.compact();
+    }
+
+    private void writeBytes() throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        bytes.clear();
+    }
+}
@@ -0,0 +1,40 @@
+package com.narxoz.rpg.render;
+
+import java.io.IOException;
+
+/**
+ * Allocation-free helpers for writing primitives to an Appendable.
+ * Appendable only accepts chars and CharSequences, so without these every
+ * number would first become a temporary String.
+ */
+public final class TextOutput {
+
+    private TextOutput() {
+    }
+
+    public static Appendable appendInt(Appendable out, int value) throws IOException {
+        if (out instanceof StringBuilder) {
+            return ((StringBuilder) out).append(value);
+        }
+        if (value == Integer.MIN_VALUE) {
+            return out.append("-2147483648");
+        }
+        if (value < 0) {
+            out.append('-');
+            value = -value;
+        }
+        int divisor = 1;
+        while (value / divisor >= 10) {
+            divisor *= 10;
+        }
+        while (divisor > 0) {
+            out.append((char) ('0' + value / divisor % 10));
+            divisor /= 10;
+        }
+        return out;
+    }
+
+    public static Appendable appendBoolean(Appendable out, boolean value) throws IOException {
+        return out.append(value ? "true" : "false");
+    }
+}
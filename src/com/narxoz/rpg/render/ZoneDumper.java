@@ -0,0 +1,92 @@
+package com.narxoz.rpg.render;
+
+import com.narxoz.rpg.enemy.Enemy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streams the displayInfo text of many enemies to a channel.
+ *
+ * Enemies render straight into one ChannelAppendable, so a zone dump does
+ * not lock System.out per line, builds no per-enemy strings, and writes to
+ * the channel in large batches.
+ *
+ * render(Enemy, ByteBuffer) encodes into a caller-owned buffer through a
+ * text buffer and encoder owned by the dumper, so once they have grown to
+ * the largest enemy it adds no allocation beyond the enemy's own render.
+ * A dumper is not thread-safe; use one per thread.
+ */
+public final class ZoneDumper {
+
+    private final StringBuilder text = new StringBuilder(256);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private CharBuffer chars = CharBuffer.allocate(256);
+
+    /**
+     * Writes every enemy's info block, separated by blank lines, then flushes.
+     *
+     * @return number of enemies written
+     */
+    public static int dump(Iterable<? extends Enemy> enemies, WritableByteChannel channel) throws IOException {
+        ChannelAppendable out = new ChannelAppendable(channel);
+        int count = 0;
+        for (Enemy enemy : enemies) {
+            enemy.render(out);
+            out.append('\n');
+            count++;
+        }
+        out.flush();
+        return count;
+    }
+
+    /**
+     * Renders one enemy as UTF-8 into {@code target} at its current position.
+     * On failure the buffer's position is unchanged.
+     *
+     * @throws BufferOverflowException if {@code target} has too little room
+     * @throws UncheckedIOException if the text is not valid UTF-16 (e.g. a lone surrogate in a name)
+     */
+    public void render(Enemy enemy, ByteBuffer target) {
+        text.setLength(0);
+        try {
+            enemy.render(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        int length = text.length();
+        if (chars.capacity() < length) {
+            chars = CharBuffer.allocate(Math.max(length, chars.capacity() * 2));
+        }
+        text.getChars(0, length, chars.array(), 0);
+        chars.clear().limit(length);
+
+        int start = target.position();
+        encoder.reset();
+        CoderResult result = encoder.encode(chars, target, true);
+        if (result.isUnderflow()) {
+            result = encoder.flush(target);
+        }
+        if (result.isOverflow()) {
+            target.position(start);
+            throw new BufferOverflowException();
+        }
+        if (result.isError()) {
+            target.position(start);
+            try {
+                result.throwException();
+            } catch (CharacterCodingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}